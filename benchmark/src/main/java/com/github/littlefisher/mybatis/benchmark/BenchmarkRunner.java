@@ -0,0 +1,26 @@
+package com.github.littlefisher.mybatis.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，在JMH命令行参数的基础上默认开启gc profiler，同时输出吞吐量和每次操作的分配字节数
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:10
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(commandLineOptions)
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
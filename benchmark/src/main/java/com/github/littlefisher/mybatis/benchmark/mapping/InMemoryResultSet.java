@@ -0,0 +1,141 @@
+package com.github.littlefisher.mybatis.benchmark.mapping;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+
+/**
+ * 基于内存数据的ResultSet，用于在没有数据库的情况下只测量结果映射的开销
+ * <p/>
+ * 通过动态代理实现，未用到的JDBC方法返回默认值，返回JDBC接口的方法返回同样行为的代理。
+ * 代理本身的开销对反射映射和生成的行映射是相同的
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:35
+ */
+final class InMemoryResultSet implements InvocationHandler {
+
+    private static final InvocationHandler DEFAULT_HANDLER = (proxy, method, args) -> defaultValue(
+        method.getReturnType());
+
+    private final String[] labels;
+
+    private final int[] types;
+
+    private final Object[][] rows;
+
+    private int cursor = -1;
+
+    private boolean wasNull;
+
+    private InMemoryResultSet(String[] labels, int[] types, Object[][] rows) {
+        this.labels = labels;
+        this.types = types;
+        this.rows = rows;
+    }
+
+    /**
+     * 创建Statement，每次调用getResultSet都返回从头开始的结果集
+     *
+     * @param labels 列名
+     * @param types 列的java.sql.Types
+     * @param rows 行数据
+     * @return Statement
+     */
+    static Statement statement(String[] labels, int[] types, Object[][] rows) {
+        return newProxy(Statement.class, (proxy, method, args) -> "getResultSet".equals(method.getName())
+            ? newProxy(ResultSet.class, new InMemoryResultSet(labels, types, rows))
+            : DEFAULT_HANDLER.invoke(proxy, method, args));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if ("next".equals(name)) {
+            return ++cursor < rows.length;
+        } else if ("wasNull".equals(name)) {
+            return wasNull;
+        } else if ("getMetaData".equals(name)) {
+            return newProxy(ResultSetMetaData.class, this::invokeMetaData);
+        } else if ("getType".equals(name)) {
+            return ResultSet.TYPE_FORWARD_ONLY;
+        } else if (name.startsWith("get") && args != null && args.length == 1) {
+            Object value = rows[cursor][toIndex(args[0])];
+            wasNull = value == null;
+            return wasNull ? defaultValue(method.getReturnType()) : convert(value, method.getReturnType());
+        }
+        return DEFAULT_HANDLER.invoke(proxy, method, args);
+    }
+
+    private Object invokeMetaData(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getColumnCount":
+                return labels.length;
+            case "getColumnLabel":
+            case "getColumnName":
+                return labels[(Integer) args[0] - 1];
+            case "getColumnType":
+                return types[(Integer) args[0] - 1];
+            case "getColumnClassName":
+                Object value = rows.length > 0 ? rows[0][(Integer) args[0] - 1] : null;
+                return value != null ? value.getClass()
+                    .getName() : Object.class.getName();
+            default:
+                return DEFAULT_HANDLER.invoke(proxy, method, args);
+        }
+    }
+
+    private int toIndex(Object column) {
+        if (column instanceof Integer) {
+            return (Integer) column - 1;
+        }
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase((String) column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column " + column);
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (type == long.class) {
+            return ((Number) value).longValue();
+        } else if (type == int.class) {
+            return ((Number) value).intValue();
+        } else if (type == double.class) {
+            return ((Number) value).doubleValue();
+        } else if (type == boolean.class) {
+            return value;
+        } else if (type == String.class) {
+            return value.toString();
+        } else if (type == BigDecimal.class) {
+            return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+        }
+        return value;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type.isInterface() && type.getName()
+            .startsWith("java.sql.")) {
+            return newProxy(type, DEFAULT_HANDLER);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newProxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InMemoryResultSet.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.littlefisher.mybatis.benchmark.mapping;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import javax.persistence.Column;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 基准测试使用的报表行，与MapperPlugin生成的实体结构一致
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:30
+ */
+@Table(name = "t_report_row")
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class ReportRow {
+
+    @Id
+    @GeneratedValue(generator = "JDBC")
+    private Long id;
+
+    @Column(name = "user_name")
+    private String userName;
+
+    private Integer status;
+
+    private BigDecimal amount;
+
+    private Double score;
+
+    private Boolean enabled;
+
+    private String description;
+
+    @Column(name = "create_time")
+    private Date createTime;
+
+    @Column(name = "update_time")
+    private Date updateTime;
+
+    private Long version;
+}
@@ -0,0 +1,12 @@
+package com.github.littlefisher.mybatis.benchmark.mapping;
+
+import com.github.littlefisher.mybatis.common.CommonMapper;
+
+/**
+ * 基准测试使用的通用Mapper，只用于生成selectAll等MappedStatement
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:30
+ */
+public interface ReportRowMapper extends CommonMapper<ReportRow> {
+}
@@ -0,0 +1,117 @@
+package com.github.littlefisher.mybatis.benchmark.mapping;
+
+import com.github.littlefisher.mybatis.common.mapping.EntityRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 与MapperPlugin开启entityRowMapperEnabled后为{@link ReportRow}生成的行映射相同
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:30
+ */
+public class ReportRowRowMapper implements EntityRowMapper<ReportRow> {
+
+    private static final String[] PROPERTIES = {"id", "userName", "status", "amount", "score", "enabled",
+        "description", "createTime", "updateTime", "version"};
+
+    private static final String[] COLUMNS = {"id", "user_name", "status", "amount", "score", "enabled",
+        "description", "create_time", "update_time", "version"};
+
+    @Override
+    public Class<ReportRow> getEntityClass() {
+        return ReportRow.class;
+    }
+
+    @Override
+    public String[] getProperties() {
+        return PROPERTIES;
+    }
+
+    @Override
+    public String[] getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public ReportRow newInstance() {
+        return new ReportRow();
+    }
+
+    @Override
+    public boolean mapRow(ResultSet rs, int[] indexes, ReportRow row) throws SQLException {
+        boolean found = false;
+        int index;
+        if ((index = indexes[0]) > 0) {
+            long value = rs.getLong(index);
+            if (!rs.wasNull()) {
+                row.setId(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[1]) > 0) {
+            String value = rs.getString(index);
+            if (value != null) {
+                row.setUserName(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[2]) > 0) {
+            int value = rs.getInt(index);
+            if (!rs.wasNull()) {
+                row.setStatus(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[3]) > 0) {
+            java.math.BigDecimal value = rs.getBigDecimal(index);
+            if (value != null) {
+                row.setAmount(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[4]) > 0) {
+            double value = rs.getDouble(index);
+            if (!rs.wasNull()) {
+                row.setScore(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[5]) > 0) {
+            boolean value = rs.getBoolean(index);
+            if (!rs.wasNull()) {
+                row.setEnabled(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[6]) > 0) {
+            String value = rs.getString(index);
+            if (value != null) {
+                row.setDescription(value);
+                found = true;
+            }
+        }
+        if ((index = indexes[7]) > 0) {
+            java.sql.Timestamp value = rs.getTimestamp(index);
+            if (value != null) {
+                row.setCreateTime(new java.util.Date(value.getTime()));
+                found = true;
+            }
+        }
+        if ((index = indexes[8]) > 0) {
+            java.sql.Timestamp value = rs.getTimestamp(index);
+            if (value != null) {
+                row.setUpdateTime(new java.util.Date(value.getTime()));
+                found = true;
+            }
+        }
+        if ((index = indexes[9]) > 0) {
+            long value = rs.getLong(index);
+            if (!rs.wasNull()) {
+                row.setVersion(value);
+                found = true;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.littlefisher.mybatis.benchmark.mapping;
+
+import com.github.littlefisher.mybatis.common.CommonMapper;
+import com.github.littlefisher.mybatis.common.mapping.EntityRowMapperInterceptor;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.mybatis.mapper.mapperhelper.MapperHelper;
+
+/**
+ * 通用Mapper selectAll的结果映射开销，对比MyBatis反射映射和{@link EntityRowMapperInterceptor}使用的生成行映射
+ * <p/>
+ * 结果集来自内存，不包含数据库和网络的开销，列名与通用Mapper生成的查询字段一致
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:40
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowMapperBenchmark {
+
+    private static final String[] LABELS = {"id", "user_name", "status", "amount", "score", "enabled",
+        "description", "create_time", "update_time", "version"};
+
+    private static final int[] TYPES = {Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.DECIMAL, Types.DOUBLE,
+        Types.BIT, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.BIGINT};
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private MappedStatement ms;
+
+    private BoundSql boundSql;
+
+    private Statement statement;
+
+    private EntityRowMapperInterceptor interceptor;
+
+    @Setup
+    public void setup() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.addMapper(ReportRowMapper.class);
+        MapperHelper mapperHelper = new MapperHelper();
+        mapperHelper.registerMapper(CommonMapper.class);
+        mapperHelper.processConfiguration(configuration);
+        ms = configuration.getMappedStatement(ReportRowMapper.class.getName() + ".selectAll");
+        boundSql = ms.getBoundSql(null);
+        interceptor = new EntityRowMapperInterceptor();
+
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            long createTime = 1600000000000L + i * 1000L;
+            data[i] = new Object[] {(long) i, "user-" + i, i % 5, BigDecimal.valueOf(i, 2), i / 3.0, i % 2 == 0,
+                i % 7 == 0 ? null : "description of row " + i, new Timestamp(createTime),
+                new Timestamp(createTime + 60000L), (long) i % 10};
+        }
+        statement = InMemoryResultSet.statement(LABELS, TYPES, data);
+        if (!reflective().equals(generated())) {
+            throw new IllegalStateException("Generated row mapper returns different rows from reflective mapping");
+        }
+    }
+
+    @Benchmark
+    public List<Object> reflective() throws SQLException {
+        return newResultSetHandler().handleResultSets(statement);
+    }
+
+    @Benchmark
+    public List<Object> generated() throws SQLException {
+        return ((ResultSetHandler) interceptor.plugin(newResultSetHandler())).handleResultSets(statement);
+    }
+
+    private ResultSetHandler newResultSetHandler() {
+        return new DefaultResultSetHandler(null, ms, null, null, boundSql, RowBounds.DEFAULT);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.littlefisher.mybatis.benchmark.pagehelper;
+
+import com.github.littlefisher.mybatis.pagehelper.PageInfo;
+import com.github.pagehelper.Page;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 总页数很大时导航页码的计算开销
+ * <p/>
+ * calcNavigatePageNums为私有方法，通过空结果的{@link Page}构造{@link PageInfo}测量，排除list本身的影响
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:20
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NavigatePageNumsBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10", "100000", "100000000"})
+    private int pages;
+
+    @Param({"8", "100"})
+    private int navigatePages;
+
+    private Page<Row> firstPage;
+
+    private Page<Row> middlePage;
+
+    private Page<Row> lastPage;
+
+    @Setup
+    public void setup() {
+        firstPage = newPage(1);
+        middlePage = newPage(pages / 2 + 1);
+        lastPage = newPage(pages);
+    }
+
+    private Page<Row> newPage(int pageNum) {
+        Page<Row> page = new Page<>(pageNum, PAGE_SIZE);
+        page.setTotal((long) pages * PAGE_SIZE);
+        return page;
+    }
+
+    @Benchmark
+    public PageInfo<Row> firstPage() {
+        return new PageInfo<>(firstPage, navigatePages);
+    }
+
+    @Benchmark
+    public PageInfo<Row> middlePage() {
+        return new PageInfo<>(middlePage, navigatePages);
+    }
+
+    @Benchmark
+    public PageInfo<Row> lastPage() {
+        return new PageInfo<>(lastPage, navigatePages);
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.littlefisher.mybatis.benchmark.pagehelper;
+
+import com.github.littlefisher.mybatis.pagehelper.PageInfo;
+import com.github.littlefisher.mybatis.pagehelper.TransformMode;
+import com.github.pagehelper.Page;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link PageInfo}构造、转换和序列化的开销
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:15
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageInfoBenchmark {
+
+    private static final Function<Row, String> TO_NAME = Row::getName;
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private Page<Row> page;
+
+    private List<Row> list;
+
+    private PageInfo<Row> pageInfo;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        page = new Page<>(50, pageSize);
+        page.setTotal(1000L * pageSize);
+        list = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Row row = Row.of((long) page.getStartRow() + i);
+            page.add(row);
+            list.add(row);
+        }
+        pageInfo = new PageInfo<>(page);
+        serialized = serialize(new PageInfo<>(pageInfo, new ArrayList<>(list)));
+    }
+
+    @Benchmark
+    public PageInfo<Row> fromPage() {
+        return new PageInfo<>(page);
+    }
+
+    @Benchmark
+    public PageInfo<Row> fromList() {
+        return new PageInfo<>(list);
+    }
+
+    @Benchmark
+    public PageInfo<Row> replaceList() {
+        return new PageInfo<>(pageInfo, list);
+    }
+
+    @Benchmark
+    public void transformEager(Blackhole blackhole) {
+        consume(new PageInfo<>(pageInfo, TO_NAME, TransformMode.EAGER), blackhole);
+    }
+
+    @Benchmark
+    public void transformLazy(Blackhole blackhole) {
+        consume(new PageInfo<>(pageInfo, TO_NAME, TransformMode.LAZY), blackhole);
+    }
+
+    @Benchmark
+    public void transformParallel(Blackhole blackhole) {
+        consume(new PageInfo<>(pageInfo, TO_NAME, TransformMode.PARALLEL), blackhole);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return serialize(pageInfo);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * 读取转换后的全部元素，LAZY在读取时才执行转换，三种方式都读完才是相同的工作量
+     *
+     * @param transformed 转换结果
+     * @param blackhole blackhole
+     */
+    private static void consume(PageInfo<String> transformed, Blackhole blackhole) {
+        for (String name : transformed.getList()) {
+            blackhole.consume(name);
+        }
+        blackhole.consume(transformed);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.littlefisher.mybatis.benchmark.pagehelper;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 基准测试使用的行数据，字段数量接近一般的业务实体
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:12
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Row implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private Integer status;
+
+    private Long createTime;
+
+    static Row of(long id) {
+        return new Row(id, "name-" + id, "description of row " + id, (int) (id % 3), 1600000000000L + id);
+    }
+}
@@ -1,10 +1,14 @@
 package com.github.littlefisher.mybatis.common;
 
+import com.github.littlefisher.mybatis.common.batch.BatchInsertMapper;
+import com.github.littlefisher.mybatis.common.batch.BatchUpdateMapper;
+import com.github.littlefisher.mybatis.common.cursor.CursorMapper;
 import tk.mybatis.mapper.common.Mapper;
 
 /**
  * @author jinyanan
  * @since 2019/11/25 16:26
  */
-public interface CommonMapper<T> extends Mapper<T> {
+public interface CommonMapper<T> extends Mapper<T>, BatchInsertMapper<T>, BatchUpdateMapper<T>,
+    CursorMapper<T> {
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+/**
+ * {@link BatchWriter}每次flush后的回调
+ *
+ * @author jinyanan
+ * @since 2026/10/18 17:32
+ */
+@FunctionalInterface
+public interface BatchFlushListener {
+
+    /**
+     * flush完成
+     *
+     * @param result 本次flush的统计
+     */
+    void onFlush(BatchFlushResult result);
+}
@@ -0,0 +1,31 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import lombok.Value;
+
+/**
+ * {@link BatchWriter}一次flush的统计
+ *
+ * @author jinyanan
+ * @since 2026/10/18 17:30
+ */
+@Value
+public class BatchFlushResult {
+
+    /** 本次提交的语句数量 */
+    int statements;
+
+    /** 本次flush中JDBC batch的数量，连续相同的sql合并为一个batch */
+    int batches;
+
+    /** 影响行数之和，驱动返回SUCCESS_NO_INFO的语句不计入 */
+    long updateCount;
+
+    /** 是否有语句的影响行数未知 */
+    boolean updateCountUnknown;
+
+    /** 本次提交的参数估算字节数 */
+    long estimatedBytes;
+
+    /** flush耗时（毫秒） */
+    long elapsedMillis;
+}
@@ -0,0 +1,127 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import java.util.List;
+import java.util.function.Function;
+import org.apache.commons.collections4.CollectionUtils;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 按参数数量自动分批调用{@link BatchInsertMapper}
+ * <p/>
+ * 每批的行数为{@code min(maxRows, maxParameters / 每行参数数量)}，
+ * 默认参数上限{@value #DEFAULT_MAX_PARAMETERS}兼容SQL Server的2100个参数限制，
+ * MySQL（65535）、PostgreSQL（32767）等可以调大以减少往返次数。
+ * 分批不会开启事务，需要整体原子性时由调用方在事务中执行
+ * <pre>
+ * BatchInsertHelper.insertBatch(userMapper, users);
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 17:10
+ */
+public final class BatchInsertHelper {
+
+    /** 默认单条sql的最大参数数量 */
+    public static final int DEFAULT_MAX_PARAMETERS = 2000;
+
+    /** 默认单条sql的最大行数，避免sql过长 */
+    public static final int DEFAULT_MAX_ROWS = 1000;
+
+    private BatchInsertHelper() {}
+
+    /**
+     * 分批插入
+     *
+     * @param mapper mapper
+     * @param records 实体列表
+     * @param <T> 实体类型
+     * @return 影响行数
+     */
+    public static <T> int insertBatch(BatchInsertMapper<T> mapper, List<? extends T> records) {
+        return insertBatch(mapper, records, DEFAULT_MAX_PARAMETERS, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * 分批插入
+     *
+     * @param mapper mapper
+     * @param records 实体列表
+     * @param maxParameters 单条sql的最大参数数量
+     * @param maxRows 单条sql的最大行数
+     * @param <T> 实体类型
+     * @return 影响行数
+     */
+    public static <T> int insertBatch(BatchInsertMapper<T> mapper, List<? extends T> records, int maxParameters,
+        int maxRows) {
+        return execute(records, false, maxParameters, maxRows, mapper::insertBatch);
+    }
+
+    /**
+     * 分批插入或更新
+     *
+     * @param mapper mapper
+     * @param records 实体列表
+     * @param <T> 实体类型
+     * @return 影响行数
+     */
+    public static <T> int upsertBatch(BatchInsertMapper<T> mapper, List<? extends T> records) {
+        return upsertBatch(mapper, records, DEFAULT_MAX_PARAMETERS, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * 分批插入或更新
+     *
+     * @param mapper mapper
+     * @param records 实体列表
+     * @param maxParameters 单条sql的最大参数数量
+     * @param maxRows 单条sql的最大行数
+     * @param <T> 实体类型
+     * @return 影响行数
+     */
+    public static <T> int upsertBatch(BatchInsertMapper<T> mapper, List<? extends T> records, int maxParameters,
+        int maxRows) {
+        return execute(records, true, maxParameters, maxRows, mapper::upsertBatch);
+    }
+
+    private static <T> int execute(List<T> records, boolean includeIdentity, int maxParameters, int maxRows,
+        Function<List<T>, Integer> write) {
+        if (CollectionUtils.isEmpty(records)) {
+            return 0;
+        }
+        int chunkSize = getChunkSize(records.get(0)
+            .getClass(), includeIdentity, maxParameters, maxRows);
+        int count = 0;
+        for (int from = 0; from < records.size(); from += chunkSize) {
+            count += write.apply(records.subList(from, Math.min(from + chunkSize, records.size())));
+        }
+        return count;
+    }
+
+    /**
+     * 计算每批的行数
+     *
+     * @param recordClass 实体类，可以是实体的子类
+     * @param includeIdentity 是否包含自增列
+     * @param maxParameters 单条sql的最大参数数量
+     * @param maxRows 单条sql的最大行数
+     * @return 每批的行数
+     */
+    static int getChunkSize(Class<?> recordClass, boolean includeIdentity, int maxParameters, int maxRows) {
+        int parametersPerRow = BatchInsertProvider.getInsertColumns(getEntityClass(recordClass), includeIdentity)
+            .size();
+        return Math.max(1, Math.min(maxRows, maxParameters / Math.max(1, parametersPerRow)));
+    }
+
+    static Class<?> getEntityClass(Class<?> recordClass) {
+        for (Class<?> type = recordClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                EntityHelper.getEntityTable(type);
+                return type;
+            } catch (MapperException e) {
+                // 可能是实体的子类，继续查找父类
+            }
+        }
+        throw new MapperException("无法获取实体类" + recordClass.getName() + "对应的表信息");
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import java.util.List;
+import org.apache.ibatis.annotations.InsertProvider;
+import tk.mybatis.mapper.annotation.RegisterMapper;
+
+/**
+ * 多行批量插入和upsert
+ * <p/>
+ * 单条sql的参数数量受驱动限制，数据量较大时使用{@link BatchInsertHelper}自动分批
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:45
+ */
+@RegisterMapper
+public interface BatchInsertMapper<T> {
+
+    /**
+     * 使用{@code INSERT INTO ... VALUES (...), (...)}批量插入，null值也会插入，不使用数据库默认值
+     * <p/>
+     * 自增主键不出现在插入列中，插入后通过JDBC回写到每个实体，genId主键在插入前生成
+     *
+     * @param recordList 实体列表，不能为空
+     * @return 影响行数
+     */
+    @InsertProvider(type = BatchInsertProvider.class, method = "dynamicSQL")
+    int insertBatch(List<? extends T> recordList);
+
+    /**
+     * 按主键批量插入或更新，主键已存在时更新所有可更新的非主键列
+     * <p/>
+     * 根据databaseId或数据库产品名生成对应的语句，
+     * MySQL使用ON DUPLICATE KEY UPDATE，PostgreSQL使用ON CONFLICT，Oracle、SQL Server、DB2、H2使用MERGE。
+     * 主键值需要由调用方设置，不回写自增主键
+     *
+     * @param recordList 实体列表，不能为空
+     * @return 影响行数，其含义因数据库而异，如MySQL中更新的行计为2
+     */
+    @InsertProvider(type = BatchInsertProvider.class, method = "dynamicSQL")
+    int upsertBatch(List<? extends T> recordList);
+}
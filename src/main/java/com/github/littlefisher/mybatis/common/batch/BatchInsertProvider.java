@@ -0,0 +1,382 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javax.sql.DataSource;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+import tk.mybatis.mapper.mapperhelper.MapperHelper;
+import tk.mybatis.mapper.mapperhelper.MapperTemplate;
+import tk.mybatis.mapper.mapperhelper.SqlHelper;
+import tk.mybatis.mapper.util.MetaObjectUtil;
+
+/**
+ * {@link BatchInsertMapper}的sql实现
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:55
+ */
+public class BatchInsertProvider extends MapperTemplate {
+
+    private static final Log log = LogFactory.getLog(BatchInsertProvider.class);
+
+    /** 数据源 -> 产品名，弱引用避免重新部署时持有数据源 */
+    private static final Map<DataSource, String> DATABASE_PRODUCT_NAMES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final String RECORD = "record";
+
+    private static final String TARGET_ALIAS = "T";
+
+    private static final String SOURCE_ALIAS = "S";
+
+    public BatchInsertProvider(Class<?> mapperClass, MapperHelper mapperHelper) {
+        super(mapperClass, mapperHelper);
+    }
+
+    /**
+     * 批量插入
+     *
+     * @param ms MappedStatement
+     * @return sql
+     */
+    public String insertBatch(MappedStatement ms) {
+        final Class<?> entityClass = getEntityClass(ms);
+        List<EntityColumn> columns = getInsertColumns(entityClass, false);
+        StringBuilder sql = new StringBuilder();
+        sql.append(listNotEmptyCheck(ms));
+        sql.append(insertValues(entityClass, columns));
+        // 自增主键通过JDBC回写到每一行
+        Set<EntityColumn> identityColumns = new LinkedHashSet<>();
+        for (EntityColumn column : EntityHelper.getPKColumns(entityClass)) {
+            if (column.isIdentity()) {
+                identityColumns.add(column);
+            }
+        }
+        if (!identityColumns.isEmpty()) {
+            MetaObjectUtil.forObject(ms)
+                .setValue("keyGenerator", Jdbc3KeyGenerator.INSTANCE);
+            EntityHelper.setKeyProperties(identityColumns, ms);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 批量插入或更新
+     *
+     * @param ms MappedStatement
+     * @return sql
+     */
+    public String upsertBatch(MappedStatement ms) {
+        final Class<?> entityClass = getEntityClass(ms);
+        Set<EntityColumn> pkColumns = EntityHelper.getPKColumns(entityClass);
+        if (pkColumns.isEmpty()) {
+            throw new MapperException(ms.getId() + "方法要求实体类" + entityClass.getName() + "包含主键");
+        }
+        List<EntityColumn> columns = getInsertColumns(entityClass, true);
+        List<EntityColumn> updateColumns = new ArrayList<>();
+        for (EntityColumn column : columns) {
+            if (!column.isId() && column.isUpdatable()) {
+                updateColumns.add(column);
+            }
+        }
+        UpsertDialect dialect = getUpsertDialect(ms);
+        StringBuilder sql = new StringBuilder();
+        if (dialect == null) {
+            // 不影响其他statement的初始化，调用时再报错
+            sql.append("<bind name=\"upsertDialectCheck\" value=\"@")
+                .append(BatchInsertProvider.class.getName())
+                .append("@unsupportedUpsert('")
+                .append(ms.getId())
+                .append("')\"/>");
+            sql.append(insertValues(entityClass, columns));
+            return sql.toString();
+        }
+        sql.append(listNotEmptyCheck(ms));
+        if (dialect.isMerge()) {
+            sql.append(merge(entityClass, dialect, columns, pkColumns, updateColumns));
+            return sql.toString();
+        }
+        sql.append(insertValues(entityClass, columns));
+        if (dialect == UpsertDialect.MYSQL) {
+            sql.append(" ON DUPLICATE KEY UPDATE ");
+            if (updateColumns.isEmpty()) {
+                String pkColumn = pkColumns.iterator()
+                    .next()
+                    .getColumn();
+                sql.append(pkColumn)
+                    .append(" = ")
+                    .append(pkColumn);
+            } else {
+                for (int i = 0; i < updateColumns.size(); i++) {
+                    String column = updateColumns.get(i)
+                        .getColumn();
+                    sql.append(i > 0 ? ", " : "")
+                        .append(column)
+                        .append(" = VALUES(")
+                        .append(column)
+                        .append(')');
+                }
+            }
+        } else {
+            sql.append(" ON CONFLICT (")
+                .append(joinColumns(pkColumns, null))
+                .append(')');
+            if (updateColumns.isEmpty()) {
+                sql.append(" DO NOTHING");
+            } else {
+                sql.append(" DO UPDATE SET ");
+                for (int i = 0; i < updateColumns.size(); i++) {
+                    String column = updateColumns.get(i)
+                        .getColumn();
+                    sql.append(i > 0 ? ", " : "")
+                        .append(column)
+                        .append(" = EXCLUDED.")
+                        .append(column);
+                }
+            }
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 获取批量写入的列，跳过不可插入的列
+     *
+     * @param entityClass 实体类
+     * @param includeIdentity 是否包含自增列，upsert需要根据主键匹配，因此包含
+     * @return 写入的列
+     */
+    static List<EntityColumn> getInsertColumns(Class<?> entityClass, boolean includeIdentity) {
+        List<EntityColumn> columns = new ArrayList<>();
+        for (EntityColumn column : EntityHelper.getColumns(entityClass)) {
+            if (!column.isInsertable() || (!includeIdentity && column.isIdentity())) {
+                continue;
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private String listNotEmptyCheck(MappedStatement ms) {
+        return "<bind name=\"listNotEmptyCheck\" value=\"@tk.mybatis.mapper.util.OGNL@notEmptyCollectionCheck(list, '"
+            + ms.getId() + " 方法参数为空')\"/>";
+    }
+
+    /**
+     * {@code INSERT INTO table (columns) VALUES (...), (...)}
+     *
+     * @param entityClass 实体类
+     * @param columns 写入的列
+     * @return sql
+     */
+    private String insertValues(Class<?> entityClass, List<EntityColumn> columns) {
+        StringBuilder sql = new StringBuilder();
+        sql.append(SqlHelper.insertIntoTable(entityClass, tableName(entityClass), "list[0]"));
+        sql.append('(')
+            .append(joinColumns(columns, null))
+            .append(')');
+        sql.append(" VALUES ");
+        sql.append("<foreach collection=\"list\" item=\"" + RECORD + "\" separator=\",\">");
+        sql.append(genIdBinds(entityClass, columns));
+        sql.append('(')
+            .append(valueHolders(entityClass, columns, false))
+            .append(')');
+        sql.append("</foreach>");
+        return sql.toString();
+    }
+
+    /**
+     * MERGE INTO table T USING (SELECT ... UNION ALL SELECT ...) S ON (...)
+     *
+     * @param entityClass 实体类
+     * @param dialect 方言
+     * @param columns 写入的列
+     * @param pkColumns 主键列
+     * @param updateColumns 主键已存在时更新的列
+     * @return sql
+     */
+    private String merge(Class<?> entityClass, UpsertDialect dialect, List<EntityColumn> columns,
+        Set<EntityColumn> pkColumns, List<EntityColumn> updateColumns) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("MERGE INTO ")
+            .append(tableName(entityClass))
+            .append(' ')
+            .append(TARGET_ALIAS);
+        sql.append(" USING (");
+        sql.append("<foreach collection=\"list\" item=\"" + RECORD + "\" separator=\" UNION ALL \">");
+        sql.append(genIdBinds(entityClass, columns));
+        sql.append("SELECT ")
+            .append(valueHolders(entityClass, columns, true));
+        if (dialect.getDualTable() != null) {
+            sql.append(" FROM ")
+                .append(dialect.getDualTable());
+        }
+        sql.append("</foreach>");
+        sql.append(") ")
+            .append(SOURCE_ALIAS);
+        sql.append(" ON (");
+        int index = 0;
+        for (EntityColumn column : pkColumns) {
+            sql.append(index++ > 0 ? " AND " : "")
+                .append(TARGET_ALIAS + '.')
+                .append(column.getColumn())
+                .append(" = " + SOURCE_ALIAS + '.')
+                .append(column.getColumn());
+        }
+        sql.append(')');
+        if (!updateColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                String column = updateColumns.get(i)
+                    .getColumn();
+                sql.append(i > 0 ? ", " : "")
+                    .append(TARGET_ALIAS + '.')
+                    .append(column)
+                    .append(" = " + SOURCE_ALIAS + '.')
+                    .append(column);
+            }
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT (")
+            .append(joinColumns(columns, null))
+            .append(") VALUES (")
+            .append(joinColumns(columns, SOURCE_ALIAS))
+            .append(')');
+        if (dialect == UpsertDialect.SQLSERVER) {
+            // SQL Server要求MERGE以分号结束
+            sql.append(';');
+        }
+        return sql.toString();
+    }
+
+    /**
+     * genId主键在写入前逐行生成，已有值时不覆盖
+     *
+     * @param entityClass 实体类
+     * @param columns 写入的列
+     * @return bind语句
+     */
+    private String genIdBinds(Class<?> entityClass, List<EntityColumn> columns) {
+        StringBuilder sql = new StringBuilder();
+        for (EntityColumn column : columns) {
+            if (column.getGenIdClass() != null) {
+                sql.append("<bind name=\"")
+                    .append(column.getProperty())
+                    .append("GenIdBind\" value=\"@tk.mybatis.mapper.genid.GenIdUtil@genId(" + RECORD + ", '")
+                    .append(column.getProperty())
+                    .append("', @")
+                    .append(column.getGenIdClass()
+                        .getCanonicalName())
+                    .append("@class, '")
+                    .append(tableName(entityClass))
+                    .append("', '")
+                    .append(column.getColumn())
+                    .append("')\"/>");
+            }
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 一行的参数占位，逻辑删除列固定写入未删除的值
+     *
+     * @param entityClass 实体类
+     * @param columns 写入的列
+     * @param withAlias 是否追加列别名，用于MERGE的数据行
+     * @return 参数占位
+     */
+    private String valueHolders(Class<?> entityClass, List<EntityColumn> columns, boolean withAlias) {
+        EntityColumn logicDeleteColumn = SqlHelper.getLogicDeleteColumn(entityClass);
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            EntityColumn column = columns.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            if (column == logicDeleteColumn) {
+                sql.append(SqlHelper.getLogicDeletedValue(column, false));
+            } else {
+                sql.append(column.getColumnHolder(RECORD));
+            }
+            if (withAlias) {
+                sql.append(" AS ")
+                    .append(column.getColumn());
+            }
+        }
+        return sql.toString();
+    }
+
+    private static String joinColumns(Iterable<EntityColumn> columns, String alias) {
+        StringBuilder sql = new StringBuilder();
+        for (EntityColumn column : columns) {
+            if (sql.length() > 0) {
+                sql.append(", ");
+            }
+            if (alias != null) {
+                sql.append(alias)
+                    .append('.');
+            }
+            sql.append(column.getColumn());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 当前数据库不支持批量upsert时，在调用时抛出异常
+     *
+     * @param msId MappedStatement id
+     * @return 不会返回
+     */
+    public static boolean unsupportedUpsert(String msId) {
+        throw new MapperException(msId + "不支持当前数据库的批量upsert，请配置databaseIdProvider或使用支持的数据库");
+    }
+
+    /**
+     * 优先根据databaseId判断方言，未配置databaseIdProvider时读取数据源的产品名
+     *
+     * @param ms MappedStatement
+     * @return 方言，无法判断或不支持时为null
+     */
+    private UpsertDialect getUpsertDialect(MappedStatement ms) {
+        Configuration configuration = ms.getConfiguration();
+        UpsertDialect dialect = UpsertDialect.of(configuration.getDatabaseId());
+        if (dialect != null) {
+            return dialect;
+        }
+        Environment environment = configuration.getEnvironment();
+        DataSource dataSource = environment == null ? null : environment.getDataSource();
+        return dataSource == null ? null : UpsertDialect.of(getDatabaseProductName(dataSource));
+    }
+
+    /**
+     * 获取数据源的产品名，每个数据源只获取一次连接。
+     * 延迟生成sql时调用方可能已经持有连接，重复获取会在连接池耗尽时死锁
+     *
+     * @param dataSource 数据源
+     * @return 产品名，获取失败时为null，下次重新获取
+     */
+    private static String getDatabaseProductName(DataSource dataSource) {
+        return DATABASE_PRODUCT_NAMES.computeIfAbsent(dataSource, key -> {
+            try (Connection connection = key.getConnection()) {
+                return connection.getMetaData()
+                    .getDatabaseProductName();
+            } catch (SQLException e) {
+                log.warn("Resolve database product name failed: " + e);
+                return null;
+            }
+        });
+    }
+}
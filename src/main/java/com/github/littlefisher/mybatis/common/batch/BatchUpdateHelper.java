@@ -0,0 +1,120 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.collections4.CollectionUtils;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 按参数数量自动分批调用{@link BatchUpdateMapper}
+ * <p/>
+ * 每批的行数为{@code min(maxRows, maxParameters / 每行参数数量)}，每行参数数量随更新的属性数量增长，
+ * 默认值与{@link BatchInsertHelper}相同。同一批中主键重复时只有第一条生效。
+ * 分批不会开启事务，需要整体原子性时由调用方在事务中执行
+ * <pre>
+ * int updated = BatchUpdateHelper.updateBatchByPrimaryKey(orderMapper, orders, "status", "updateTime");
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 20:05
+ */
+public final class BatchUpdateHelper {
+
+    private BatchUpdateHelper() {}
+
+    /**
+     * 分批更新指定属性
+     *
+     * @param mapper mapper
+     * @param records 实体列表
+     * @param properties 需要更新的属性，为空时更新所有可更新的非主键属性
+     * @param <T> 实体类型
+     * @return 影响行数
+     */
+    public static <T> int updateBatchByPrimaryKey(BatchUpdateMapper<T> mapper, List<? extends T> records,
+        String... properties) {
+        return updateBatchByPrimaryKey(mapper, records, Arrays.asList(properties),
+            BatchInsertHelper.DEFAULT_MAX_PARAMETERS, BatchInsertHelper.DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * 分批更新指定属性
+     *
+     * @param mapper mapper
+     * @param records 实体列表
+     * @param properties 需要更新的属性，为空时更新所有可更新的非主键属性
+     * @param maxParameters 单条sql的最大参数数量
+     * @param maxRows 单条sql的最大行数
+     * @param <T> 实体类型
+     * @return 影响行数，实体包含版本号时小于实体数量说明存在版本冲突
+     */
+    public static <T> int updateBatchByPrimaryKey(BatchUpdateMapper<T> mapper, List<? extends T> records,
+        Collection<String> properties, int maxParameters, int maxRows) {
+        if (CollectionUtils.isEmpty(records)) {
+            return 0;
+        }
+        Class<?> entityClass = BatchInsertHelper.getEntityClass(records.get(0)
+            .getClass());
+        Set<String> updateProperties = getUpdateProperties(entityClass, properties);
+        int chunkSize = getChunkSize(entityClass, updateProperties.size(), maxParameters, maxRows);
+        int count = 0;
+        for (int from = 0; from < records.size(); from += chunkSize) {
+            count += mapper.updateBatchByPrimaryKey(updateProperties,
+                records.subList(from, Math.min(from + chunkSize, records.size())));
+        }
+        return count;
+    }
+
+    /**
+     * 校验需要更新的属性
+     *
+     * @param entityClass 实体类
+     * @param properties 需要更新的属性
+     * @return 需要更新的属性，为空时为所有可更新的属性
+     */
+    private static Set<String> getUpdateProperties(Class<?> entityClass, Collection<String> properties) {
+        Set<String> updatable = new LinkedHashSet<>();
+        for (EntityColumn column : BatchUpdateProvider.getUpdateColumns(entityClass)) {
+            updatable.add(column.getProperty());
+        }
+        if (CollectionUtils.isEmpty(properties)) {
+            if (updatable.isEmpty() && BatchUpdateProvider.getVersionColumn(entityClass) == null) {
+                throw new IllegalArgumentException(entityClass.getName() + "没有可以更新的属性");
+            }
+            return Collections.emptySet();
+        }
+        for (String property : properties) {
+            if (!updatable.contains(property)) {
+                throw new IllegalArgumentException("属性" + property + "不是" + entityClass.getName()
+                    + "中可以批量更新的属性，主键、版本号和不可更新的属性不能指定");
+            }
+        }
+        return new LinkedHashSet<>(properties);
+    }
+
+    /**
+     * 计算每批的行数
+     * <p/>
+     * 每个更新的列对每行使用主键和新值，WHERE条件再使用一次主键（和版本号）
+     *
+     * @param entityClass 实体类
+     * @param propertyCount 更新的属性数量，0表示所有可更新的属性
+     * @param maxParameters 单条sql的最大参数数量
+     * @param maxRows 单条sql的最大行数
+     * @return 每批的行数
+     */
+    static int getChunkSize(Class<?> entityClass, int propertyCount, int maxParameters, int maxRows) {
+        int pkCount = EntityHelper.getPKColumns(entityClass)
+            .size();
+        int columnCount = propertyCount > 0 ? propertyCount : BatchUpdateProvider.getUpdateColumns(entityClass)
+            .size();
+        int parametersPerRow = columnCount * (pkCount + 1) + pkCount
+            + (BatchUpdateProvider.getVersionColumn(entityClass) == null ? 0 : 1);
+        return Math.max(1, Math.min(maxRows, maxParameters / Math.max(1, parametersPerRow)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.UpdateProvider;
+import tk.mybatis.mapper.annotation.RegisterMapper;
+
+/**
+ * 按主键批量更新
+ * <p/>
+ * 单条sql的参数数量受驱动限制，数据量较大时使用{@link BatchUpdateHelper}自动分批
+ *
+ * @author jinyanan
+ * @since 2026/10/18 19:40
+ */
+@RegisterMapper
+public interface BatchUpdateMapper<T> {
+
+    /**
+     * 使用{@code UPDATE ... SET col = CASE pk WHEN ... THEN ... END WHERE pk IN (...)}按主键批量更新指定属性，null值也会更新
+     * <p/>
+     * 实体包含{@link tk.mybatis.mapper.annotation.Version}字段时，只更新版本号与实体一致的行，并在数据库中递增版本号，
+     * 此时返回的影响行数小于实体数量说明存在版本冲突。实体上的版本号不会回写
+     *
+     * @param properties 需要更新的属性，为空时更新所有可更新的非主键属性
+     * @param recordList 实体列表，不能为空
+     * @return 影响行数
+     */
+    @UpdateProvider(type = BatchUpdateProvider.class, method = "dynamicSQL")
+    int updateBatchByPrimaryKey(@Param("properties") Collection<String> properties,
+        @Param("list") List<? extends T> recordList);
+}
@@ -0,0 +1,229 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.ibatis.mapping.MappedStatement;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.annotation.Version;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+import tk.mybatis.mapper.mapperhelper.MapperHelper;
+import tk.mybatis.mapper.mapperhelper.MapperTemplate;
+import tk.mybatis.mapper.mapperhelper.SqlHelper;
+import tk.mybatis.mapper.version.DefaultNextVersion;
+
+/**
+ * {@link BatchUpdateMapper}的sql实现
+ * <p/>
+ * foreach中的bind在每次迭代时会覆盖同名变量，无法逐行生成新版本号，因此版本号在数据库中递增:
+ * Integer/Long使用{@code version + 1}，Timestamp使用执行时的当前时间，与{@link DefaultNextVersion}一致
+ *
+ * @author jinyanan
+ * @since 2026/10/18 19:50
+ */
+public class BatchUpdateProvider extends MapperTemplate {
+
+    private static final String RECORD = "record";
+
+    public BatchUpdateProvider(Class<?> mapperClass, MapperHelper mapperHelper) {
+        super(mapperClass, mapperHelper);
+    }
+
+    /**
+     * 按主键批量更新
+     *
+     * @param ms MappedStatement
+     * @return sql
+     */
+    public String updateBatchByPrimaryKey(MappedStatement ms) {
+        final Class<?> entityClass = getEntityClass(ms);
+        List<EntityColumn> pkColumns = new ArrayList<>(EntityHelper.getPKColumns(entityClass));
+        if (pkColumns.isEmpty()) {
+            throw new MapperException(ms.getId() + "方法要求实体类" + entityClass.getName() + "包含主键");
+        }
+        EntityColumn versionColumn = getVersionColumn(entityClass);
+        StringBuilder sql = new StringBuilder();
+        sql.append("<bind name=\"listNotEmptyCheck\" value=\"@tk.mybatis.mapper.util.OGNL@notEmptyCollectionCheck(list, '")
+            .append(ms.getId())
+            .append(" 方法参数为空')\"/>");
+        if (versionColumn != null) {
+            sql.append(nextVersionBind(ms, versionColumn));
+        }
+        sql.append(SqlHelper.updateTable(entityClass, tableName(entityClass)));
+        sql.append("<set>");
+        for (EntityColumn column : getUpdateColumns(entityClass)) {
+            sql.append("<if test='@org.apache.commons.collections4.CollectionUtils@isEmpty(properties) or \"")
+                .append(column.getProperty())
+                .append("\" in properties'>");
+            sql.append(column.getColumn())
+                .append(" = ")
+                .append(caseWhen(pkColumns, column))
+                .append(',');
+            sql.append("</if>");
+        }
+        if (versionColumn != null) {
+            sql.append(versionColumn.getColumn())
+                .append(" = ")
+                .append(nextVersion(versionColumn))
+                .append(',');
+        }
+        sql.append("</set>");
+        sql.append(" WHERE ");
+        if (pkColumns.size() == 1 && versionColumn == null) {
+            sql.append(pkColumns.get(0)
+                .getColumn())
+                .append(" IN (");
+            sql.append("<foreach collection=\"list\" item=\"" + RECORD + "\" separator=\",\">");
+            sql.append(pkColumns.get(0)
+                .getColumnHolder(RECORD));
+            sql.append("</foreach>");
+            sql.append(')');
+        } else {
+            sql.append('(');
+            sql.append("<foreach collection=\"list\" item=\"" + RECORD + "\" separator=\" OR \">");
+            sql.append('(')
+                .append(rowCondition(pkColumns, versionColumn))
+                .append(')');
+            sql.append("</foreach>");
+            sql.append(')');
+        }
+        sql.append(SqlHelper.whereLogicDelete(entityClass, false));
+        return sql.toString();
+    }
+
+    /**
+     * 获取可以批量更新的列，不包含主键和版本号
+     *
+     * @param entityClass 实体类
+     * @return 可更新的列
+     */
+    static List<EntityColumn> getUpdateColumns(Class<?> entityClass) {
+        List<EntityColumn> columns = new ArrayList<>();
+        for (EntityColumn column : EntityHelper.getColumns(entityClass)) {
+            if (column.isId() || !column.isUpdatable() || isVersion(column)) {
+                continue;
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    /**
+     * 获取版本号列
+     *
+     * @param entityClass 实体类
+     * @return 版本号列，没有时为null
+     */
+    static EntityColumn getVersionColumn(Class<?> entityClass) {
+        EntityColumn versionColumn = null;
+        for (EntityColumn column : EntityHelper.getColumns(entityClass)) {
+            if (isVersion(column)) {
+                if (versionColumn != null) {
+                    throw new MapperException(entityClass.getName() + " 中包含多个带有 @Version 注解的字段，一个类中只能存在一个带有 @Version 注解的字段!");
+                }
+                versionColumn = column;
+            }
+        }
+        return versionColumn;
+    }
+
+    private static boolean isVersion(EntityColumn column) {
+        return column.getEntityField() != null && column.getEntityField()
+            .isAnnotationPresent(Version.class);
+    }
+
+    /**
+     * {@code CASE pk WHEN ... THEN ... ELSE column END}，联合主键时使用{@code CASE WHEN pk1 = ... AND pk2 = ...}
+     *
+     * @param pkColumns 主键列
+     * @param column 更新的列
+     * @return case语句
+     */
+    private String caseWhen(List<EntityColumn> pkColumns, EntityColumn column) {
+        StringBuilder sql = new StringBuilder("CASE");
+        if (pkColumns.size() == 1) {
+            sql.append(' ')
+                .append(pkColumns.get(0)
+                    .getColumn());
+        }
+        sql.append("<foreach collection=\"list\" item=\"" + RECORD + "\">");
+        sql.append(" WHEN ");
+        if (pkColumns.size() == 1) {
+            sql.append(pkColumns.get(0)
+                .getColumnHolder(RECORD));
+        } else {
+            sql.append(rowCondition(pkColumns, null));
+        }
+        sql.append(" THEN ")
+            .append(column.getColumnHolder(RECORD));
+        sql.append("</foreach>");
+        sql.append(" ELSE ")
+            .append(column.getColumn())
+            .append(" END");
+        return sql.toString();
+    }
+
+    private String rowCondition(List<EntityColumn> pkColumns, EntityColumn versionColumn) {
+        StringBuilder sql = new StringBuilder();
+        for (EntityColumn column : pkColumns) {
+            if (sql.length() > 0) {
+                sql.append(" AND ");
+            }
+            sql.append(column.getColumnEqualsHolder(RECORD));
+        }
+        if (versionColumn != null) {
+            sql.append(" AND ")
+                .append(versionColumn.getColumnEqualsHolder(RECORD));
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Timestamp版本号的当前时间，自定义{@link tk.mybatis.mapper.version.NextVersion}在调用时报错
+     *
+     * @param ms MappedStatement
+     * @param versionColumn 版本号列
+     * @return bind语句
+     */
+    private String nextVersionBind(MappedStatement ms, EntityColumn versionColumn) {
+        Version version = versionColumn.getEntityField()
+            .getAnnotation(Version.class);
+        if (version.nextVersion() != DefaultNextVersion.class) {
+            return "<bind name=\"nextVersionCheck\" value=\"@" + BatchUpdateProvider.class.getName()
+                + "@unsupportedVersion('" + ms.getId() + "')\"/>";
+        }
+        if (Timestamp.class.isAssignableFrom(versionColumn.getJavaType())) {
+            return "<bind name=\"nextVersionBind\" value=\"@" + BatchUpdateProvider.class.getName()
+                + "@nextTimestamp()\"/>";
+        }
+        return "";
+    }
+
+    private String nextVersion(EntityColumn versionColumn) {
+        if (Timestamp.class.isAssignableFrom(versionColumn.getJavaType())) {
+            return "#{nextVersionBind}";
+        }
+        return versionColumn.getColumn() + " + 1";
+    }
+
+    /**
+     * Timestamp版本号的新值
+     *
+     * @return 当前时间
+     */
+    public static Timestamp nextTimestamp() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+
+    /**
+     * 自定义版本号生成方式无法在批量更新中逐行计算，在调用时抛出异常
+     *
+     * @param msId MappedStatement id
+     * @return 不会返回
+     */
+    public static boolean unsupportedVersion(String msId) {
+        throw new MapperException(msId + "只支持DefaultNextVersion生成的Integer、Long、Timestamp版本号");
+    }
+}
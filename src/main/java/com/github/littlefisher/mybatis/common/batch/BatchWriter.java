@@ -0,0 +1,317 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import com.github.littlefisher.mybatis.common.CommonMapper;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 基于{@link ExecutorType#BATCH}的批量写入
+ * <p/>
+ * 通过BATCH会话中的mapper收集insert/update/delete，累计的语句数量达到maxStatements，
+ * 或参数估算字节数达到maxBytes时自动flush，每次flush的结果通过{@link BatchFlushListener}回调。
+ * <ul>
+ * <li>{@link #open(SqlSessionFactory, Class)}: 使用独立的会话，调用{@link #commit()}提交，未提交直接close时回滚</li>
+ * <li>{@link #open(SqlSessionFactory, Class, Connection)}: 复用调用方的连接，加入其事务，由调用方提交，close时不关闭连接</li>
+ * <li>{@link #BatchWriter(SqlSession, Class, int, long, BatchFlushListener)}: 使用调用方已有的BATCH会话，如Spring事务中的会话</li>
+ * </ul>
+ * 语句在flush之前不会发送到数据库，依赖写入结果（如自增主键）的逻辑需要先调用{@link #flush()}。非线程安全
+ * <pre>
+ * try (BatchWriter&lt;User&gt; writer = BatchWriter.open(sqlSessionFactory, UserMapper.class)) {
+ *     users.forEach(writer::insert);
+ *     writer.commit();
+ * }
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 17:40
+ */
+public class BatchWriter<T> implements AutoCloseable {
+
+    /** 默认每1000条语句flush一次 */
+    public static final int DEFAULT_MAX_STATEMENTS = 1000;
+
+    /** 默认参数累计4MB时flush一次 */
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    /** 无法解析实体字段时每个参数的估算字节数 */
+    private static final int DEFAULT_OBJECT_BYTES = 64;
+
+    /** 定长类型的估算字节数 */
+    private static final int FIXED_VALUE_BYTES = 8;
+
+    private final SqlSession sqlSession;
+
+    private final CommonMapper<T> mapper;
+
+    /** 是否由当前对象管理会话的提交和关闭 */
+    private final boolean ownSession;
+
+    private final int maxStatements;
+
+    private final long maxBytes;
+
+    private final BatchFlushListener listener;
+
+    private int pendingStatements;
+
+    private long pendingBytes;
+
+    private long totalStatements;
+
+    private long totalUpdateCount;
+
+    private int flushCount;
+
+    /**
+     * 使用调用方已有的BATCH会话，提交和关闭由调用方负责
+     *
+     * @param sqlSession BATCH会话
+     * @param mapperClass mapper接口
+     * @param maxStatements 自动flush的语句数量，不大于0时不按数量flush
+     * @param maxBytes 自动flush的参数估算字节数，不大于0时不按字节数flush
+     * @param listener flush回调，可以为null
+     */
+    public BatchWriter(SqlSession sqlSession, Class<? extends CommonMapper<T>> mapperClass, int maxStatements,
+        long maxBytes, BatchFlushListener listener) {
+        this(sqlSession, mapperClass, false, maxStatements, maxBytes, listener);
+    }
+
+    private BatchWriter(SqlSession sqlSession, Class<? extends CommonMapper<T>> mapperClass, boolean ownSession,
+        int maxStatements, long maxBytes, BatchFlushListener listener) {
+        this.sqlSession = sqlSession;
+        this.mapper = sqlSession.getMapper(mapperClass);
+        this.ownSession = ownSession;
+        this.maxStatements = maxStatements;
+        this.maxBytes = maxBytes;
+        this.listener = listener;
+    }
+
+    /**
+     * 打开独立的BATCH会话
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param <T> 实体类型
+     * @return batchWriter
+     */
+    public static <T> BatchWriter<T> open(SqlSessionFactory sqlSessionFactory,
+        Class<? extends CommonMapper<T>> mapperClass) {
+        return open(sqlSessionFactory, mapperClass, DEFAULT_MAX_STATEMENTS, DEFAULT_MAX_BYTES, null);
+    }
+
+    /**
+     * 打开独立的BATCH会话
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param maxStatements 自动flush的语句数量
+     * @param maxBytes 自动flush的参数估算字节数
+     * @param listener flush回调，可以为null
+     * @param <T> 实体类型
+     * @return batchWriter
+     */
+    public static <T> BatchWriter<T> open(SqlSessionFactory sqlSessionFactory,
+        Class<? extends CommonMapper<T>> mapperClass, int maxStatements, long maxBytes, BatchFlushListener listener) {
+        return new BatchWriter<>(sqlSessionFactory.openSession(ExecutorType.BATCH, false), mapperClass, true,
+            maxStatements, maxBytes, listener);
+    }
+
+    /**
+     * 在调用方的连接上打开BATCH会话，写入加入该连接当前的事务
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param connection 调用方的连接，由调用方提交和关闭
+     * @param <T> 实体类型
+     * @return batchWriter
+     */
+    public static <T> BatchWriter<T> open(SqlSessionFactory sqlSessionFactory,
+        Class<? extends CommonMapper<T>> mapperClass, Connection connection) {
+        return new BatchWriter<>(sqlSessionFactory.openSession(ExecutorType.BATCH, connection), mapperClass,
+            DEFAULT_MAX_STATEMENTS, DEFAULT_MAX_BYTES, null);
+    }
+
+    public void insert(T record) {
+        mapper.insert(record);
+        added(record);
+    }
+
+    public void insertSelective(T record) {
+        mapper.insertSelective(record);
+        added(record);
+    }
+
+    public void updateByPrimaryKey(T record) {
+        mapper.updateByPrimaryKey(record);
+        added(record);
+    }
+
+    public void updateByPrimaryKeySelective(T record) {
+        mapper.updateByPrimaryKeySelective(record);
+        added(record);
+    }
+
+    public void delete(T record) {
+        mapper.delete(record);
+        added(record);
+    }
+
+    public void deleteByPrimaryKey(Object key) {
+        mapper.deleteByPrimaryKey(key);
+        added(key);
+    }
+
+    private void added(Object parameter) {
+        pendingStatements++;
+        if (maxBytes > 0) {
+            pendingBytes += estimateBytes(parameter);
+        }
+        if ((maxStatements > 0 && pendingStatements >= maxStatements) || (maxBytes > 0 && pendingBytes >= maxBytes)) {
+            flush();
+        }
+    }
+
+    /**
+     * 将已收集的语句发送到数据库，不提交事务
+     *
+     * @return 本次flush的统计，没有待发送的语句时为null
+     */
+    public BatchFlushResult flush() {
+        if (pendingStatements == 0) {
+            return null;
+        }
+        long start = System.nanoTime();
+        List<BatchResult> batchResults = sqlSession.flushStatements();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long updateCount = 0;
+        boolean unknown = false;
+        for (BatchResult batchResult : batchResults) {
+            for (int count : batchResult.getUpdateCounts()) {
+                if (count >= 0) {
+                    updateCount += count;
+                } else if (count == Statement.SUCCESS_NO_INFO) {
+                    unknown = true;
+                }
+            }
+        }
+        BatchFlushResult result = new BatchFlushResult(pendingStatements, batchResults.size(), updateCount, unknown,
+            pendingBytes, elapsedMillis);
+        totalStatements += pendingStatements;
+        totalUpdateCount += updateCount;
+        flushCount++;
+        pendingStatements = 0;
+        pendingBytes = 0;
+        if (listener != null) {
+            listener.onFlush(result);
+        }
+        return result;
+    }
+
+    /**
+     * flush后提交独立会话，复用连接或会话时只flush，由调用方提交
+     */
+    public void commit() {
+        flush();
+        if (ownSession) {
+            sqlSession.commit();
+        }
+    }
+
+    /**
+     * flush剩余的语句，独立会话未提交的部分会回滚
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            if (ownSession) {
+                sqlSession.close();
+            } else {
+                sqlSession.clearCache();
+            }
+        }
+    }
+
+    /**
+     * 估算参数发送到数据库的字节数，只用于判断flush时机，不要求精确
+     *
+     * @param parameter 参数
+     * @return 估算字节数
+     */
+    private static long estimateBytes(Object parameter) {
+        if (parameter == null) {
+            return 0;
+        }
+        long bytes = estimateValueBytes(parameter);
+        if (bytes >= 0) {
+            return bytes;
+        }
+        Set<EntityColumn> columns;
+        try {
+            columns = EntityHelper.getColumns(parameter.getClass());
+        } catch (MapperException e) {
+            return DEFAULT_OBJECT_BYTES;
+        }
+        MetaObject metaObject = SystemMetaObject.forObject(parameter);
+        bytes = 0;
+        for (EntityColumn column : columns) {
+            long valueBytes = estimateValueBytes(metaObject.getValue(column.getProperty()));
+            bytes += valueBytes >= 0 ? valueBytes : DEFAULT_OBJECT_BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * 估算单个值的字节数
+     *
+     * @param value 值
+     * @return 估算字节数，非简单类型时为-1
+     */
+    private static long estimateValueBytes(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Date || value instanceof Enum
+            || value instanceof Temporal) {
+            return FIXED_VALUE_BYTES;
+        }
+        return -1;
+    }
+
+    public long getTotalStatements() {
+        return totalStatements;
+    }
+
+    public long getTotalUpdateCount() {
+        return totalUpdateCount;
+    }
+
+    public int getFlushCount() {
+        return flushCount;
+    }
+
+    public int getPendingStatements() {
+        return pendingStatements;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import lombok.Value;
+
+/**
+ * {@link ChunkedMutationHelper}一批提交后的进度
+ *
+ * @author jinyanan
+ * @since 2026/10/18 20:34
+ */
+@Value
+public class ChunkProgress {
+
+    /** 已提交的批次数，从1开始 */
+    int chunks;
+
+    /** 本批选中的行数 */
+    int selectedRows;
+
+    /** 本批影响的行数 */
+    int affectedRows;
+
+    /** 累计影响的行数 */
+    long totalAffectedRows;
+
+    /** 本批最后一行的主键，已提交，传入{@link ChunkedMutationParam#getResumeFrom()}即可从下一行继续 */
+    Object lastKey;
+
+    /** 本批耗时（毫秒），不包含等待时间 */
+    long elapsedMillis;
+}
@@ -0,0 +1,18 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+/**
+ * {@link ChunkedMutationHelper}每批提交后的回调
+ *
+ * @author jinyanan
+ * @since 2026/10/18 20:32
+ */
+@FunctionalInterface
+public interface ChunkProgressListener {
+
+    /**
+     * 一批已提交，可以持久化{@link ChunkProgress#getLastKey()}用于中断后继续
+     *
+     * @param progress 进度
+     */
+    void onChunk(ChunkProgress progress);
+}
@@ -0,0 +1,234 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import com.github.littlefisher.mybatis.common.select.ProjectionHelper;
+import com.github.littlefisher.mybatis.common.util.MappedStatementUtil;
+import com.github.pagehelper.PageHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.common.Mapper;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.entity.Example;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 分批执行deleteByExample/updateByExample，避免一条语句长时间持有大范围的锁
+ * <p/>
+ * 每批先按主键顺序查询最多chunkSize个满足条件的主键，再在原条件上追加{@code pk IN (...)}执行删除或更新，
+ * 每批使用独立的会话并单独提交。下一批从上一批最后一个主键之后继续查询，因此更新后仍满足条件的行不会被重复处理，
+ * 中断后也可以通过{@link ChunkedMutationParam#getResumeFrom()}继续。只支持单列主键
+ * <pre>
+ * ChunkedMutationResult result = ChunkedMutationHelper.deleteByExample(sqlSessionFactory, LogMapper.class, example,
+ *     ChunkedMutationParam.builder().chunkSize(2000).pauseMillis(100).listener(progress -&gt; save(progress.getLastKey())).build());
+ * </pre>
+ * 执行期间会临时修改example的条件和排序，每批执行后还原。整体不是原子操作，已提交的批次不会回滚
+ *
+ * @author jinyanan
+ * @since 2026/10/18 20:40
+ */
+public final class ChunkedMutationHelper {
+
+    private static final String OR = "or";
+
+    private ChunkedMutationHelper() {}
+
+    /**
+     * 分批删除
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param example 删除条件
+     * @param param 分批参数
+     * @param <T> 实体类型
+     * @return 执行结果
+     */
+    public static <T> ChunkedMutationResult deleteByExample(SqlSessionFactory sqlSessionFactory,
+        Class<? extends Mapper<T>> mapperClass, Example example, ChunkedMutationParam param) {
+        return execute(sqlSessionFactory, mapperClass, example, param, Mapper::deleteByExample);
+    }
+
+    /**
+     * 分批更新，null值也会更新
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param record 更新的值，主键不会被更新
+     * @param example 更新条件
+     * @param param 分批参数
+     * @param <T> 实体类型
+     * @return 执行结果
+     */
+    public static <T> ChunkedMutationResult updateByExample(SqlSessionFactory sqlSessionFactory,
+        Class<? extends Mapper<T>> mapperClass, T record, Example example, ChunkedMutationParam param) {
+        return execute(sqlSessionFactory, mapperClass, example, param,
+            (mapper, chunkExample) -> mapper.updateByExample(record, chunkExample));
+    }
+
+    /**
+     * 分批更新，只更新非null的属性
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param record 更新的值，主键不会被更新
+     * @param example 更新条件
+     * @param param 分批参数
+     * @param <T> 实体类型
+     * @return 执行结果
+     */
+    public static <T> ChunkedMutationResult updateByExampleSelective(SqlSessionFactory sqlSessionFactory,
+        Class<? extends Mapper<T>> mapperClass, T record, Example example, ChunkedMutationParam param) {
+        return execute(sqlSessionFactory, mapperClass, example, param,
+            (mapper, chunkExample) -> mapper.updateByExampleSelective(record, chunkExample));
+    }
+
+    private static <T> ChunkedMutationResult execute(SqlSessionFactory sqlSessionFactory,
+        Class<? extends Mapper<T>> mapperClass, Example example, ChunkedMutationParam param,
+        BiFunction<Mapper<T>, Example, Integer> mutation) {
+        if (param.getChunkSize() <= 0) {
+            throw new IllegalArgumentException("chunkSize必须大于0");
+        }
+        EntityColumn pkColumn = getPkColumn(mapperClass);
+        String pkProperty = pkColumn.getProperty();
+        List<Example.Criteria> originalCriteria = new ArrayList<>(example.getOredCriteria());
+        List<Integer> originalSizes = new ArrayList<>(originalCriteria.size());
+        for (Example.Criteria criteria : originalCriteria) {
+            List<Example.Criterion> criterionList = criteria.getCriteria();
+            for (int i = 1; i < criterionList.size(); i++) {
+                // 条件内部的or无法再追加and条件，否则会因为优先级改变原有语义
+                if (OR.equalsIgnoreCase(criterionList.get(i)
+                    .getAndOr())) {
+                    throw new IllegalArgumentException("分批执行不支持Criteria内部的or条件，请使用example.or()拆分");
+                }
+            }
+            originalSizes.add(criterionList.size());
+        }
+        String originalOrderByClause = example.getOrderByClause();
+
+        Object lastKey = param.getResumeFrom();
+        int chunks = 0;
+        long totalAffectedRows = 0;
+        while (true) {
+            long start = System.currentTimeMillis();
+            List<Object> keys = new ArrayList<>();
+            int affectedRows = 0;
+            try (SqlSession sqlSession = sqlSessionFactory.openSession(false)) {
+                Mapper<T> mapper = sqlSession.getMapper(mapperClass);
+                try {
+                    Object from = lastKey;
+                    addCondition(example, originalCriteria, criteria -> {
+                        if (from != null) {
+                            criteria.andGreaterThan(pkProperty, from);
+                        }
+                    });
+                    example.setOrderByClause(pkColumn.getColumn() + " ASC");
+                    List<T> rows = PageHelper.startPage(1, param.getChunkSize(), false)
+                        .doSelectPage(() -> ProjectionHelper.selectProperties(mapper, example, pkProperty));
+                    for (T row : rows) {
+                        keys.add(SystemMetaObject.forObject(row)
+                            .getValue(pkProperty));
+                    }
+                    if (!keys.isEmpty()) {
+                        restore(example, originalCriteria, originalSizes, originalOrderByClause);
+                        addCondition(example, originalCriteria, criteria -> criteria.andIn(pkProperty, keys));
+                        affectedRows = mutation.apply(mapper, example);
+                    }
+                } finally {
+                    restore(example, originalCriteria, originalSizes, originalOrderByClause);
+                }
+                sqlSession.commit();
+            }
+            if (keys.isEmpty()) {
+                return new ChunkedMutationResult(chunks, totalAffectedRows, lastKey, true);
+            }
+            long elapsedMillis = System.currentTimeMillis() - start;
+            chunks++;
+            totalAffectedRows += affectedRows;
+            lastKey = keys.get(keys.size() - 1);
+            if (param.getListener() != null) {
+                param.getListener()
+                    .onChunk(new ChunkProgress(chunks, keys.size(), affectedRows, totalAffectedRows, lastKey,
+                        elapsedMillis));
+            }
+            if (keys.size() < param.getChunkSize()) {
+                return new ChunkedMutationResult(chunks, totalAffectedRows, lastKey, true);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(getPauseMillis(param, keys.size(), elapsedMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                return new ChunkedMutationResult(chunks, totalAffectedRows, lastKey, false);
+            }
+        }
+    }
+
+    /**
+     * 计算两批之间的等待时间
+     *
+     * @param param 分批参数
+     * @param rows 本批处理的行数
+     * @param elapsedMillis 本批耗时
+     * @return 等待时间（毫秒）
+     */
+    private static long getPauseMillis(ChunkedMutationParam param, int rows, long elapsedMillis) {
+        long pauseMillis = Math.max(0, param.getPauseMillis());
+        if (param.getMaxRowsPerSecond() > 0) {
+            pauseMillis = Math.max(pauseMillis, rows * 1000L / param.getMaxRowsPerSecond() - elapsedMillis);
+        }
+        return pauseMillis;
+    }
+
+    /**
+     * 在每个or分组中追加条件，没有条件时新建一个分组
+     *
+     * @param example example
+     * @param originalCriteria 原有条件
+     * @param condition 追加的条件
+     */
+    private static void addCondition(Example example, List<Example.Criteria> originalCriteria,
+        Consumer<Example.Criteria> condition) {
+        if (originalCriteria.isEmpty()) {
+            condition.accept(example.or());
+            return;
+        }
+        for (Example.Criteria criteria : originalCriteria) {
+            condition.accept(criteria);
+        }
+    }
+
+    private static void restore(Example example, List<Example.Criteria> originalCriteria, List<Integer> originalSizes,
+        String originalOrderByClause) {
+        for (int i = 0; i < originalCriteria.size(); i++) {
+            List<Example.Criterion> criterionList = originalCriteria.get(i)
+                .getCriteria();
+            criterionList.subList(originalSizes.get(i), criterionList.size())
+                .clear();
+        }
+        example.getOredCriteria()
+            .clear();
+        example.getOredCriteria()
+            .addAll(originalCriteria);
+        example.setOrderByClause(originalOrderByClause);
+    }
+
+    private static EntityColumn getPkColumn(Class<?> mapperClass) {
+        Class<?> entityClass = MappedStatementUtil.getEntityClass(mapperClass);
+        if (entityClass == null) {
+            throw new MapperException("无法获取" + mapperClass.getName() + "对应的实体类");
+        }
+        Set<EntityColumn> pkColumns = EntityHelper.getPKColumns(entityClass);
+        if (pkColumns.size() != 1) {
+            throw new MapperException(
+                "分批执行只支持单列主键，实体类" + entityClass.getName() + "包含" + pkColumns.size() + "个主键");
+        }
+        return pkColumns.iterator()
+            .next();
+    }
+}
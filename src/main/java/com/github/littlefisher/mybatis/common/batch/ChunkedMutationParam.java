@@ -0,0 +1,43 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * {@link ChunkedMutationHelper}的分批参数
+ *
+ * @author jinyanan
+ * @since 2026/10/18 20:30
+ */
+@Data
+@Builder
+public class ChunkedMutationParam {
+
+    /**
+     * 每批处理的行数，每批在独立的事务中提交
+     */
+    @Builder.Default
+    private int chunkSize = 1000;
+
+    /**
+     * 两批之间的固定间隔（毫秒），给复制和其他事务留出时间
+     */
+    @Builder.Default
+    private long pauseMillis = 0;
+
+    /**
+     * 每秒最多处理的行数，小于等于0时不限制，与pauseMillis同时配置时取等待时间较长的一个
+     */
+    @Builder.Default
+    private long maxRowsPerSecond = 0;
+
+    /**
+     * 从该主键之后继续处理，一般为上次中断时{@link ChunkProgress#getLastKey()}的值，为null时从头开始
+     */
+    private Object resumeFrom;
+
+    /**
+     * 每批提交后的回调
+     */
+    private ChunkProgressListener listener;
+}
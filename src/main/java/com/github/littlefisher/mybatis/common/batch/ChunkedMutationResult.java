@@ -0,0 +1,25 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import lombok.Value;
+
+/**
+ * {@link ChunkedMutationHelper}的执行结果
+ *
+ * @author jinyanan
+ * @since 2026/10/18 20:36
+ */
+@Value
+public class ChunkedMutationResult {
+
+    /** 提交的批次数 */
+    int chunks;
+
+    /** 累计影响的行数 */
+    long totalAffectedRows;
+
+    /** 最后提交的主键，没有提交任何批次时为{@link ChunkedMutationParam#getResumeFrom()} */
+    Object lastKey;
+
+    /** 是否处理完所有满足条件的行，线程被中断时为false */
+    boolean completed;
+}
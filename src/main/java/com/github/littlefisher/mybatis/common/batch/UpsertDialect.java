@@ -0,0 +1,75 @@
+package com.github.littlefisher.mybatis.common.batch;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 批量upsert的数据库方言
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:40
+ */
+public enum UpsertDialect {
+
+    /** INSERT ... ON DUPLICATE KEY UPDATE */
+    MYSQL(null, "mysql", "mariadb"),
+
+    /** INSERT ... ON CONFLICT (pk) DO UPDATE */
+    POSTGRESQL(null, "postgresql"),
+
+    /** MERGE INTO ... USING (SELECT ... FROM DUAL UNION ALL ...) */
+    ORACLE("DUAL", "oracle"),
+
+    /** MERGE INTO ... USING (SELECT ... FROM DUAL UNION ALL ...) */
+    H2("DUAL", "h2"),
+
+    /** MERGE INTO ... USING (SELECT ... FROM SYSIBM.SYSDUMMY1 UNION ALL ...) */
+    DB2("SYSIBM.SYSDUMMY1", "db2"),
+
+    /** MERGE INTO ... USING (SELECT ... UNION ALL ...); */
+    SQLSERVER(null, "sql server", "sqlserver");
+
+    /** MERGE语句中构造数据行使用的伪表，为null时不需要from */
+    private final String dualTable;
+
+    /** 数据库产品名或databaseId中包含的关键字 */
+    private final String[] keywords;
+
+    UpsertDialect(String dualTable, String... keywords) {
+        this.dualTable = dualTable;
+        this.keywords = keywords;
+    }
+
+    public String getDualTable() {
+        return dualTable;
+    }
+
+    /**
+     * 是否使用MERGE语句
+     *
+     * @return 是否使用MERGE语句
+     */
+    public boolean isMerge() {
+        return this != MYSQL && this != POSTGRESQL;
+    }
+
+    /**
+     * 根据数据库产品名或databaseId获取方言
+     *
+     * @param name 数据库产品名或databaseId
+     * @return 方言，不支持时为null
+     */
+    public static UpsertDialect of(String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        String lowerCaseName = name.toLowerCase();
+        for (UpsertDialect dialect : values()) {
+            for (String keyword : dialect.keywords) {
+                if (lowerCaseName.contains(keyword)) {
+                    return dialect;
+                }
+            }
+        }
+        return null;
+    }
+}
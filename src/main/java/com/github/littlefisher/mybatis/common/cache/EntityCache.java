@@ -0,0 +1,49 @@
+package com.github.littlefisher.mybatis.common.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 为实体开启本地主键缓存，由{@link EntityCacheInterceptor}缓存selectByPrimaryKey的结果
+ * <p/>
+ * 适合读多写少的参考数据，缓存只在当前JVM内有效，其他节点或绕过MyBatis的写操作只能依赖过期时间
+ *
+ * @author jinyanan
+ * @since 2026/10/18 18:15
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityCache {
+
+    /**
+     * 最多缓存的实体数量
+     *
+     * @return 最大数量
+     */
+    long maximumSize() default 10000;
+
+    /**
+     * 写入缓存后的过期时间（秒）
+     *
+     * @return 过期时间
+     */
+    long expireAfterWriteSeconds() default 60;
+
+    /**
+     * 缓存分段数，读操作无锁，写操作只锁定所在的分段
+     *
+     * @return 分段数
+     */
+    int concurrencyLevel() default 16;
+
+    /**
+     * 是否返回缓存实体的副本，关闭后所有调用方共享同一个实例，修改会影响缓存
+     *
+     * @return 是否返回副本
+     */
+    boolean copyOnRead() default true;
+}
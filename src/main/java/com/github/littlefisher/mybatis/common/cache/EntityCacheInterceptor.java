@@ -0,0 +1,294 @@
+package com.github.littlefisher.mybatis.common.cache;
+
+import com.github.littlefisher.mybatis.common.util.MappedStatementUtil;
+import com.github.littlefisher.mybatis.common.util.PrimaryKeyUtil;
+import com.github.littlefisher.mybatis.common.util.SpringTransactionHook;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 标注了{@link EntityCache}的实体的本地主键缓存
+ * <p/>
+ * 缓存通用Mapper的selectByPrimaryKey结果，使用Guava的分段缓存，按数量和过期时间淘汰，读操作无锁。
+ * 同一实体的写操作会使缓存失效：按主键更新/删除只失效对应的主键，insert不失效，其余写操作失效该实体的全部缓存。
+ * 为避免缓存未提交的数据，有未提交写操作的会话读取该实体时不经过缓存，且在提交、回滚或关闭后再次失效写过的主键；
+ * 存在Spring事务同步时，还会在数据库事务真正结束后再失效一次。
+ * 每次失效都会递增实体的版本号，未命中的读取在加载期间版本号发生变化时不保留加载的结果，避免旧数据覆盖失效
+ *
+ * @author jinyanan
+ * @since 2026/10/18 18:25
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+            BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})})
+public class EntityCacheInterceptor implements Interceptor {
+
+    private static final String SELECT_BY_PRIMARY_KEY = "selectByPrimaryKey";
+
+    /** 按主键写入，只失效对应的主键 */
+    private static final Set<String> PRIMARY_KEY_WRITES = new HashSet<>(
+        Arrays.asList("updateByPrimaryKey", "updateByPrimaryKeySelective", "deleteByPrimaryKey"));
+
+    /** 只插入新行，不影响已缓存的实体 */
+    private static final Set<String> INSERTS = new HashSet<>(
+        Arrays.asList("insert", "insertSelective", "insertList", "insertUseGeneratedKeys", "insertBatch"));
+
+    /** 表示失效实体的全部缓存 */
+    private static final Object ALL = new Object();
+
+    /** 实体类 -> 缓存，未标注{@link EntityCache}的实体为empty */
+    private final ConcurrentMap<Class<?>, Optional<EntityCacheHolder>> caches = new ConcurrentHashMap<>();
+
+    /** 会话中未提交的写操作，实体类 -> 写过的主键，在提交、回滚或关闭时移除 */
+    private final ConcurrentMap<Executor, Map<Class<?>, Set<Object>>> dirtyKeys = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Executor executor = (Executor) invocation.getTarget();
+        switch (invocation.getMethod()
+            .getName()) {
+            case "query":
+                return query(invocation, executor);
+            case "update":
+                return update(invocation, executor);
+            default:
+                // commit/rollback/close
+                try {
+                    return invocation.proceed();
+                } finally {
+                    Map<Class<?>, Set<Object>> keys = dirtyKeys.remove(executor);
+                    if (keys != null) {
+                        keys.forEach(this::invalidate);
+                        SpringTransactionHook.afterCompletion(() -> keys.forEach(this::invalidate));
+                    }
+                }
+        }
+    }
+
+    private Object query(Invocation invocation, Executor executor) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        RowBounds rowBounds = (RowBounds) invocation.getArgs()[2];
+        if (!SELECT_BY_PRIMARY_KEY.equals(getMethodName(ms)) || rowBounds != RowBounds.DEFAULT) {
+            return invocation.proceed();
+        }
+        Class<?> entityClass = MappedStatementUtil.getEntityClass(ms);
+        EntityCacheHolder holder = getCache(entityClass);
+        Object key = holder == null ? null : getKey(entityClass, parameter);
+        if (key == null || isDirty(executor, entityClass)) {
+            return invocation.proceed();
+        }
+        Object cached = holder.cache.getIfPresent(key);
+        if (cached != null) {
+            return Collections.singletonList(holder.copy(cached));
+        }
+        long epoch = holder.epoch.get();
+        Object result = invocation.proceed();
+        if (result instanceof List && ((List<?>) result).size() == 1 && !isDirty(executor, entityClass)) {
+            holder.cache.put(key, holder.copy(((List<?>) result).get(0)));
+            // 加载期间发生过失效，读到的可能是旧数据；先put再检查，与失效时先递增版本号再清除缓存的顺序配合
+            if (holder.epoch.get() != epoch) {
+                holder.cache.invalidate(key);
+            }
+        }
+        return result;
+    }
+
+    private Object update(Invocation invocation, Executor executor) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Class<?> entityClass = MappedStatementUtil.getEntityClass(ms);
+        if (getCache(entityClass) == null) {
+            return invocation.proceed();
+        }
+        String methodName = getMethodName(ms);
+        if (ms.getSqlCommandType() == SqlCommandType.INSERT && INSERTS.contains(methodName)) {
+            return invocation.proceed();
+        }
+        Object key = PRIMARY_KEY_WRITES.contains(methodName) ? getKey(entityClass, invocation.getArgs()[1]) : null;
+        Object dirtyKey = key == null ? ALL : key;
+        dirtyKeys.computeIfAbsent(executor, e -> new HashMap<>())
+            .computeIfAbsent(entityClass, c -> new HashSet<>())
+            .add(dirtyKey);
+        invalidate(entityClass, Collections.singleton(dirtyKey));
+        try {
+            return invocation.proceed();
+        } finally {
+            invalidate(entityClass, Collections.singleton(dirtyKey));
+        }
+    }
+
+    private boolean isDirty(Executor executor, Class<?> entityClass) {
+        Map<Class<?>, Set<Object>> keys = dirtyKeys.get(executor);
+        return keys != null && keys.containsKey(entityClass);
+    }
+
+    private void invalidate(Class<?> entityClass, Set<Object> keys) {
+        EntityCacheHolder holder = getCache(entityClass);
+        if (holder == null) {
+            return;
+        }
+        holder.epoch.incrementAndGet();
+        if (keys.contains(ALL)) {
+            holder.cache.invalidateAll();
+        } else {
+            holder.cache.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * 获取主键，参数为实体时从实体中读取，单列主键时参数即为主键值
+     *
+     * @param entityClass 实体类
+     * @param parameter 参数
+     * @return 缓存key，无法确定主键时为null
+     */
+    private Object getKey(Class<?> entityClass, Object parameter) {
+        if (parameter == null) {
+            return null;
+        }
+        if (entityClass.isInstance(parameter)) {
+            return PrimaryKeyUtil.getPrimaryKey(entityClass, parameter);
+        }
+        if (parameter instanceof Map || EntityHelper.getPKColumns(entityClass)
+            .size() != 1) {
+            return null;
+        }
+        return PrimaryKeyUtil.normalize(parameter);
+    }
+
+    private String getMethodName(MappedStatement ms) {
+        String id = ms.getId();
+        return id.substring(id.lastIndexOf('.') + 1);
+    }
+
+    private EntityCacheHolder getCache(Class<?> entityClass) {
+        if (entityClass == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(entityClass, c -> {
+            EntityCache entityCache = c.getAnnotation(EntityCache.class);
+            return entityCache == null ? Optional.empty() : Optional.of(new EntityCacheHolder(c, entityCache));
+        })
+            .orElse(null);
+    }
+
+    /**
+     * 获取实体缓存的统计信息
+     *
+     * @param entityClass 实体类
+     * @return 命中、未命中、淘汰次数等统计，实体未开启缓存时为null
+     */
+    public CacheStats getStats(Class<?> entityClass) {
+        EntityCacheHolder holder = getCache(entityClass);
+        return holder == null ? null : holder.cache.stats();
+    }
+
+    /**
+     * 获取所有已使用的实体缓存的统计信息
+     *
+     * @return 实体类 -> 统计
+     */
+    public Map<Class<?>, CacheStats> getStats() {
+        Map<Class<?>, CacheStats> stats = new HashMap<>();
+        caches.forEach((entityClass, holder) -> holder.ifPresent(h -> stats.put(entityClass, h.cache.stats())));
+        return stats;
+    }
+
+    /**
+     * 清空实体的缓存
+     *
+     * @param entityClass 实体类
+     */
+    public void invalidateAll(Class<?> entityClass) {
+        invalidate(entityClass, Collections.singleton(ALL));
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {}
+
+    /**
+     * 单个实体的缓存和复制逻辑
+     */
+    private static class EntityCacheHolder {
+
+        private final Class<?> entityClass;
+
+        private final boolean copyOnRead;
+
+        private final Cache<Object, Object> cache;
+
+        /** 失效版本号，每次失效时递增 */
+        private final AtomicLong epoch = new AtomicLong();
+
+        EntityCacheHolder(Class<?> entityClass, EntityCache entityCache) {
+            this.entityClass = entityClass;
+            this.copyOnRead = entityCache.copyOnRead();
+            this.cache = CacheBuilder.newBuilder()
+                .maximumSize(entityCache.maximumSize())
+                .expireAfterWrite(entityCache.expireAfterWriteSeconds(), TimeUnit.SECONDS)
+                .concurrencyLevel(entityCache.concurrencyLevel())
+                .recordStats()
+                .build();
+        }
+
+        /**
+         * 按实体的列复制属性，避免调用方修改缓存中的实例
+         *
+         * @param entity 实体
+         * @return 副本
+         */
+        Object copy(Object entity) {
+            if (!copyOnRead || entity.getClass() != entityClass) {
+                return entity;
+            }
+            MetaObject source = SystemMetaObject.forObject(entity);
+            MetaObject target = SystemMetaObject.forObject(SystemMetaObject.DEFAULT_OBJECT_FACTORY.create(entityClass));
+            for (EntityColumn column : EntityHelper.getColumns(entityClass)) {
+                target.setValue(column.getProperty(), source.getValue(column.getProperty()));
+            }
+            return target.getOriginalObject();
+        }
+    }
+}
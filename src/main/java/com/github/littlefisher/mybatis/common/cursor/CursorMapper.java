@@ -0,0 +1,40 @@
+package com.github.littlefisher.mybatis.common.cursor;
+
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+import tk.mybatis.mapper.annotation.RegisterMapper;
+
+/**
+ * 基于{@link Cursor}的流式查询，逐行映射实体，不会把全部结果放入内存
+ * <p/>
+ * Cursor依赖打开它的SqlSession，使用完毕前会话不能关闭，一般通过{@link CursorStreams}转换为Stream使用。
+ * JDBC fetchSize通过MyBatis配置变量{@value CursorProvider#CURSOR_FETCH_SIZE}设置，
+ * 未设置时使用defaultFetchSize。MySQL需要设置为{@link Integer#MIN_VALUE}，或在连接参数中开启useCursorFetch
+ *
+ * @author jinyanan
+ * @since 2026/10/18 18:50
+ */
+@RegisterMapper
+public interface CursorMapper<T> {
+
+    /**
+     * 根据Example条件流式查询
+     *
+     * @param example 查询条件
+     * @return cursor
+     */
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY)
+    @SelectProvider(type = CursorProvider.class, method = "dynamicSQL")
+    Cursor<T> selectCursorByExample(Object example);
+
+    /**
+     * 流式查询全部数据
+     *
+     * @return cursor
+     */
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY)
+    @SelectProvider(type = CursorProvider.class, method = "dynamicSQL")
+    Cursor<T> selectCursorAll();
+}
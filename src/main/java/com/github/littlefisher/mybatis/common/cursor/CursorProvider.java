@@ -0,0 +1,73 @@
+package com.github.littlefisher.mybatis.common.cursor;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.mapping.MappedStatement;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.mapperhelper.MapperHelper;
+import tk.mybatis.mapper.mapperhelper.SqlHelper;
+import tk.mybatis.mapper.provider.ExampleProvider;
+import tk.mybatis.mapper.util.MetaObjectUtil;
+
+/**
+ * {@link CursorMapper}的sql实现，与selectByExample/selectAll的sql相同
+ *
+ * @author jinyanan
+ * @since 2026/10/18 18:55
+ */
+public class CursorProvider extends ExampleProvider {
+
+    /** MyBatis配置变量，流式查询的JDBC fetchSize */
+    public static final String CURSOR_FETCH_SIZE = "cursorFetchSize";
+
+    public CursorProvider(Class<?> mapperClass, MapperHelper mapperHelper) {
+        super(mapperClass, mapperHelper);
+    }
+
+    /**
+     * 根据Example条件流式查询
+     *
+     * @param ms MappedStatement
+     * @return sql
+     */
+    public String selectCursorByExample(MappedStatement ms) {
+        applyFetchSize(ms);
+        return selectByExample(ms);
+    }
+
+    /**
+     * 流式查询全部数据
+     *
+     * @param ms MappedStatement
+     * @return sql
+     */
+    public String selectCursorAll(MappedStatement ms) {
+        applyFetchSize(ms);
+        final Class<?> entityClass = getEntityClass(ms);
+        setResultType(ms, entityClass);
+        StringBuilder sql = new StringBuilder();
+        sql.append(SqlHelper.selectAllColumns(entityClass));
+        sql.append(SqlHelper.fromTable(entityClass, tableName(entityClass)));
+        if (SqlHelper.hasLogicDeleteColumn(entityClass)) {
+            sql.append("<where>");
+            sql.append(SqlHelper.whereLogicDelete(entityClass, false));
+            sql.append("</where>");
+        }
+        sql.append(SqlHelper.orderByDefault(entityClass));
+        return sql.toString();
+    }
+
+    private void applyFetchSize(MappedStatement ms) {
+        String fetchSize = ms.getConfiguration()
+            .getVariables()
+            .getProperty(CURSOR_FETCH_SIZE);
+        if (StringUtils.isBlank(fetchSize)) {
+            return;
+        }
+        try {
+            MetaObjectUtil.forObject(ms)
+                .setValue("fetchSize", Integer.valueOf(fetchSize.trim()));
+        } catch (NumberFormatException e) {
+            throw new MapperException(CURSOR_FETCH_SIZE + "配置错误: " + fetchSize, e);
+        }
+    }
+}
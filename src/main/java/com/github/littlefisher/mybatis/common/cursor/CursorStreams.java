@@ -0,0 +1,101 @@
+package com.github.littlefisher.mybatis.common.cursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+/**
+ * 将{@link Cursor}转换为{@link Stream}
+ * <p/>
+ * 返回的Stream必须关闭，关闭时释放Cursor以及由本类打开的SqlSession，建议使用try-with-resources:
+ * <pre>
+ * try (Stream&lt;User&gt; users = CursorStreams.streamByExample(sqlSessionFactory, UserMapper.class, example)) {
+ *     users.forEach(exporter::write);
+ * }
+ * </pre>
+ * Stream为顺序流，数据逐行从ResultSet读取，内存占用与结果总行数无关
+ *
+ * @author jinyanan
+ * @since 2026/10/18 19:00
+ */
+public final class CursorStreams {
+
+    private CursorStreams() {}
+
+    /**
+     * 包装已打开的Cursor，关闭Stream时关闭Cursor，SqlSession由调用方管理
+     *
+     * @param cursor cursor
+     * @param <T> 实体类型
+     * @return stream
+     */
+    public static <T> Stream<T> stream(Cursor<T> cursor) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(cursor.iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> closeCursor(cursor));
+    }
+
+    /**
+     * 打开独立的SqlSession按Example流式查询，关闭Stream时关闭会话
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param example 查询条件
+     * @param <T> 实体类型
+     * @return stream
+     */
+    public static <T> Stream<T> streamByExample(SqlSessionFactory sqlSessionFactory,
+        Class<? extends CursorMapper<T>> mapperClass, Object example) {
+        return stream(sqlSessionFactory, mapperClass, mapper -> mapper.selectCursorByExample(example));
+    }
+
+    /**
+     * 打开独立的SqlSession流式查询全部数据，关闭Stream时关闭会话
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param <T> 实体类型
+     * @return stream
+     */
+    public static <T> Stream<T> streamAll(SqlSessionFactory sqlSessionFactory,
+        Class<? extends CursorMapper<T>> mapperClass) {
+        return stream(sqlSessionFactory, mapperClass, mapper -> mapper.selectCursorAll());
+    }
+
+    /**
+     * 打开独立的SqlSession执行流式查询，关闭Stream时关闭会话
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param select 查询逻辑
+     * @param <M> mapper类型
+     * @param <T> 实体类型
+     * @return stream
+     */
+    public static <M, T> Stream<T> stream(SqlSessionFactory sqlSessionFactory, Class<M> mapperClass,
+        Function<M, Cursor<T>> select) {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+        try {
+            Cursor<T> cursor = select.apply(sqlSession.getMapper(mapperClass));
+            return stream(cursor).onClose(sqlSession::close);
+        } catch (RuntimeException e) {
+            sqlSession.close();
+            throw e;
+        }
+    }
+
+    private static void closeCursor(Cursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
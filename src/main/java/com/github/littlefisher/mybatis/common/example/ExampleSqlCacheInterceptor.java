@@ -0,0 +1,117 @@
+package com.github.littlefisher.mybatis.common.example;
+
+import com.github.littlefisher.mybatis.common.example.ExampleSqlSource.SqlTemplate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import tk.mybatis.mapper.util.MetaObjectUtil;
+
+/**
+ * 为以Example为参数的通用Mapper方法启用{@link ExampleSqlSource}
+ * <p/>
+ * statement第一次执行时将其SqlSource替换为按条件结构缓存sql的实现，所有statement共用一个按数量淘汰的缓存。
+ * 可配置的属性:
+ * <ul>
+ * <li>maximumSize: 缓存的条件结构数量上限，默认{@value #DEFAULT_MAXIMUM_SIZE}，IN列表长度不同视为不同结构</li>
+ * <li>methods: 启用缓存的方法名，逗号分隔，默认selectByExample、selectCountByExample、selectOneByExample、
+ * selectByExampleAndRowBounds、selectCursorByExample、deleteByExample</li>
+ * </ul>
+ * 若与PageInterceptor同时使用，需要配置在PageInterceptor之后，使其先于分页插件执行
+ *
+ * @author jinyanan
+ * @since 2026/10/18 22:30
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+            BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})})
+public class ExampleSqlCacheInterceptor implements Interceptor {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final Set<String> DEFAULT_METHODS = new HashSet<>(Arrays.asList("selectByExample",
+        "selectCountByExample", "selectOneByExample", "selectByExampleAndRowBounds", "selectCursorByExample",
+        "deleteByExample"));
+
+    private Set<String> methods = DEFAULT_METHODS;
+
+    private Cache<String, Optional<SqlTemplate>> cache = newCache(DEFAULT_MAXIMUM_SIZE);
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        if (!(ms.getSqlSource() instanceof ExampleSqlSource) && ms.getSqlSource() instanceof DynamicSqlSource
+            && methods.contains(ms.getId()
+            .substring(ms.getId()
+                .lastIndexOf('.') + 1))) {
+            synchronized (ms) {
+                if (ms.getSqlSource() instanceof DynamicSqlSource) {
+                    MetaObjectUtil.forObject(ms)
+                        .setValue("sqlSource",
+                            new ExampleSqlSource(ms.getConfiguration(), ms.getId(), ms.getSqlSource(), cache));
+                }
+            }
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * 获取缓存的命中统计
+     *
+     * @return 统计
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return target instanceof Executor ? Plugin.wrap(target, this) : target;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        String maximumSize = properties.getProperty("maximumSize");
+        if (StringUtils.isNotBlank(maximumSize)) {
+            this.cache = newCache(Long.parseLong(maximumSize.trim()));
+        }
+        String methodNames = properties.getProperty("methods");
+        if (StringUtils.isNotBlank(methodNames)) {
+            Set<String> set = new HashSet<>();
+            for (String method : StringUtils.split(methodNames, ',')) {
+                set.add(method.trim());
+            }
+            this.methods = set;
+        }
+    }
+
+    private static Cache<String, Optional<SqlTemplate>> newCache(long maximumSize) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
+}
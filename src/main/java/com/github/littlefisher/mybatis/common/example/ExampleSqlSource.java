@@ -0,0 +1,247 @@
+package com.github.littlefisher.mybatis.common.example;
+
+import com.google.common.cache.Cache;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.DynamicContext;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import tk.mybatis.mapper.entity.Example;
+
+/**
+ * 按Example的条件结构缓存sql的SqlSource
+ * <p/>
+ * 条件结构（实体类、distinct、查询列、排序、每个条件的and/or、表达式、值的个数和IN列表长度）相同时，
+ * 通用Mapper动态sql生成的sql文本和参数顺序也相同。首次遇到某个结构时由原SqlSource生成sql，
+ * 并校验参数与按条件顺序取出的值一一对应，之后相同结构的调用直接使用缓存的sql，只绑定参数值，不再执行OGNL。
+ * 指纹不包含值的类型，MyBatis按首次调用的值的运行时类型推断的TypeHandler（如IN列表的元素）在缓存中改为绑定时按值解析。
+ * 无法校验的结构（如自定义了where条件的模板）缓存为不可用，始终使用原SqlSource
+ *
+ * @author jinyanan
+ * @since 2026/10/18 22:10
+ */
+class ExampleSqlSource implements SqlSource {
+
+    private static final String PARAMETER_PREFIX = "__example_p";
+
+    private static final char SEPARATOR = '\u0001';
+
+    private final Configuration configuration;
+
+    private final TypeHandlerRegistry typeHandlerRegistry;
+
+    private final String msId;
+
+    private final SqlSource delegate;
+
+    private final Cache<String, Optional<SqlTemplate>> cache;
+
+    ExampleSqlSource(Configuration configuration, String msId, SqlSource delegate,
+        Cache<String, Optional<SqlTemplate>> cache) {
+        this.configuration = configuration;
+        this.typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        this.msId = msId;
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        if (!(parameterObject instanceof Example)) {
+            return delegate.getBoundSql(parameterObject);
+        }
+        Example example = (Example) parameterObject;
+        String key = fingerprint(example);
+        if (key == null) {
+            return delegate.getBoundSql(parameterObject);
+        }
+        Optional<SqlTemplate> template = cache.getIfPresent(key);
+        if (template == null) {
+            BoundSql boundSql = delegate.getBoundSql(parameterObject);
+            cache.put(key, Optional.ofNullable(compile(boundSql, example)));
+            return boundSql;
+        }
+        if (!template.isPresent()) {
+            return delegate.getBoundSql(parameterObject);
+        }
+        List<Object> values = getValues(example);
+        SqlTemplate sqlTemplate = template.get();
+        BoundSql boundSql = new BoundSql(configuration, sqlTemplate.sql, sqlTemplate.parameterMappings,
+            parameterObject);
+        boundSql.setAdditionalParameter(DynamicContext.PARAMETER_OBJECT_KEY, parameterObject);
+        boundSql.setAdditionalParameter(DynamicContext.DATABASE_ID_KEY, configuration.getDatabaseId());
+        for (int i = 0; i < sqlTemplate.parameterNames.length; i++) {
+            boundSql.setAdditionalParameter(sqlTemplate.parameterNames[i], values.get(i));
+        }
+        return boundSql;
+    }
+
+    /**
+     * 由原SqlSource生成的结果构建模板，参数改为按顺序命名，参数值与条件中的值不一致时返回null
+     *
+     * @param boundSql 原SqlSource生成的结果
+     * @param example 查询条件
+     * @return 模板
+     */
+    private SqlTemplate compile(BoundSql boundSql, Example example) {
+        List<Object> values = getValues(example);
+        List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+        if (values == null || values.size() != parameterMappings.size()) {
+            return null;
+        }
+        List<ParameterMapping> compiled = new ArrayList<>(parameterMappings.size());
+        String[] parameterNames = new String[parameterMappings.size()];
+        for (int i = 0; i < parameterMappings.size(); i++) {
+            ParameterMapping parameterMapping = parameterMappings.get(i);
+            String property = parameterMapping.getProperty();
+            if (!boundSql.hasAdditionalParameter(property) || boundSql.getAdditionalParameter(property) != values.get(i)) {
+                return null;
+            }
+            parameterNames[i] = PARAMETER_PREFIX + i;
+            TypeHandler<?> typeHandler = parameterMapping.getTypeHandler();
+            Class<?> javaType = parameterMapping.getJavaType();
+            Object value = values.get(i);
+            if (value != null && javaType == value.getClass()
+                && typeHandler == typeHandlerRegistry.getTypeHandler(javaType, parameterMapping.getJdbcType())) {
+                // TypeHandler是按本次值的运行时类型推断的，相同结构的后续调用值的类型可能不同（如Integer和Long的IN列表）
+                typeHandler = typeHandlerRegistry.getUnknownTypeHandler();
+                javaType = Object.class;
+            }
+            compiled.add(new ParameterMapping.Builder(configuration, parameterNames[i], typeHandler).javaType(javaType)
+                .jdbcType(parameterMapping.getJdbcType())
+                .jdbcTypeName(parameterMapping.getJdbcTypeName())
+                .mode(parameterMapping.getMode())
+                .numericScale(parameterMapping.getNumericScale())
+                .resultMapId(parameterMapping.getResultMapId())
+                .expression(parameterMapping.getExpression())
+                .build());
+        }
+        return new SqlTemplate(boundSql.getSql(), Collections.unmodifiableList(compiled), parameterNames);
+    }
+
+    /**
+     * 条件结构的指纹，不包含条件的值
+     *
+     * @param example 查询条件
+     * @return 指纹，包含无法识别的值时为null
+     */
+    private String fingerprint(Example example) {
+        StringBuilder sb = new StringBuilder(128).append(msId)
+            .append(SEPARATOR)
+            .append(example.getEntityClass()
+                .getName())
+            .append(SEPARATOR)
+            .append(example.isDistinct())
+            .append(example.isForUpdate())
+            .append(SEPARATOR)
+            .append(example.getSelectColumns())
+            .append(SEPARATOR)
+            .append(example.getCountColumn())
+            .append(SEPARATOR)
+            .append(example.getOrderByClause())
+            .append(SEPARATOR)
+            .append(example.getDynamicTableName());
+        for (Example.Criteria criteria : example.getOredCriteria()) {
+            sb.append(SEPARATOR)
+                .append(criteria.getAndOr())
+                .append('(');
+            for (Example.Criterion criterion : criteria.getCriteria()) {
+                sb.append(criterion.getAndOr())
+                    .append(' ')
+                    .append(criterion.getCondition());
+                if (criterion.isNoValue()) {
+                    sb.append(":n");
+                } else if (criterion.isSingleValue()) {
+                    sb.append(":s");
+                } else if (criterion.isBetweenValue()) {
+                    sb.append(":b");
+                } else if (criterion.isListValue()) {
+                    int size = size(criterion.getValue());
+                    if (size < 0) {
+                        return null;
+                    }
+                    sb.append(":l")
+                        .append(size);
+                }
+                sb.append(SEPARATOR);
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 按通用Mapper where条件的遍历顺序取出参数值
+     *
+     * @param example 查询条件
+     * @return 参数值，包含无法识别的值时为null
+     */
+    private static List<Object> getValues(Example example) {
+        List<Object> values = new ArrayList<>();
+        for (Example.Criteria criteria : example.getOredCriteria()) {
+            if (!criteria.isValid()) {
+                continue;
+            }
+            for (Example.Criterion criterion : criteria.getCriteria()) {
+                if (criterion.isSingleValue()) {
+                    values.add(criterion.getValue());
+                } else if (criterion.isBetweenValue()) {
+                    values.add(criterion.getValue());
+                    values.add(criterion.getSecondValue());
+                } else if (criterion.isListValue()) {
+                    Object value = criterion.getValue();
+                    if (value instanceof Iterable) {
+                        for (Object item : (Iterable<?>) value) {
+                            values.add(item);
+                        }
+                    } else if (value != null && value.getClass()
+                        .isArray()) {
+                        for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                            values.add(Array.get(value, i));
+                        }
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
+    private static int size(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        if (value != null && value.getClass()
+            .isArray()) {
+            return Array.getLength(value);
+        }
+        return -1;
+    }
+
+    /**
+     * 编译后的sql模板
+     */
+    static class SqlTemplate {
+
+        private final String sql;
+
+        private final List<ParameterMapping> parameterMappings;
+
+        private final String[] parameterNames;
+
+        SqlTemplate(String sql, List<ParameterMapping> parameterMappings, String[] parameterNames) {
+            this.sql = sql;
+            this.parameterMappings = parameterMappings;
+            this.parameterNames = parameterNames;
+        }
+    }
+}
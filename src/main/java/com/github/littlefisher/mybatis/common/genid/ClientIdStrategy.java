@@ -0,0 +1,48 @@
+package com.github.littlefisher.mybatis.common.genid;
+
+import org.apache.commons.lang3.StringUtils;
+import tk.mybatis.mapper.genid.GenId;
+
+/**
+ * 客户端主键生成策略，生成器根据clientIdStrategy配置为自增或序列主键生成对应的@KeySql注解
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:55
+ */
+public enum ClientIdStrategy {
+
+    /** Snowflake风格的64位主键 */
+    SNOWFLAKE(SnowflakeGenId.class),
+
+    /** 从序列分配号段的hi/lo主键 */
+    HILO(HiLoGenId.class);
+
+    private final Class<? extends GenId<Long>> genIdClass;
+
+    ClientIdStrategy(Class<? extends GenId<Long>> genIdClass) {
+        this.genIdClass = genIdClass;
+    }
+
+    public Class<? extends GenId<Long>> getGenIdClass() {
+        return genIdClass;
+    }
+
+    /**
+     * 根据配置获取策略，忽略大小写
+     *
+     * @param name 策略名
+     * @return 策略，未配置时为null
+     */
+    public static ClientIdStrategy of(String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        for (ClientIdStrategy strategy : values()) {
+            if (strategy.name()
+                .equalsIgnoreCase(name.trim())) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("不支持的客户端主键生成策略: " + name);
+    }
+}
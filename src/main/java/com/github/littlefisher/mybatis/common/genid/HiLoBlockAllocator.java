@@ -0,0 +1,20 @@
+package com.github.littlefisher.mybatis.common.genid;
+
+/**
+ * hi/lo主键的号段分配，每次返回一个新的、不重复的hi值
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:50
+ */
+@FunctionalInterface
+public interface HiLoBlockAllocator {
+
+    /**
+     * 分配下一个hi值
+     *
+     * @param table 表名
+     * @param column 列名
+     * @return hi值，不能小于0
+     */
+    long nextHi(String table, String column);
+}
@@ -0,0 +1,106 @@
+package com.github.littlefisher.mybatis.common.genid;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.genid.GenId;
+import tk.mybatis.mapper.genid.GenIdUtil;
+
+/**
+ * hi/lo号段主键，每blockSize个主键才访问一次序列，其余在内存中分配，可以用于批量插入
+ * <p/>
+ * 每个表的每个主键列各自维护号段，号段内的分配是一次getAndIncrement，竞争时不会阻塞。
+ * 号段用完时只有一个线程去分配新号段，其他线程让出CPU等待新号段生效。主键为{@code hi * blockSize + lo}，
+ * 应用重启后未用完的号段会被跳过。
+ * <p/>
+ * 通用Mapper通过无参构造创建的实例没有号段来源，使用前需要在启动时调用{@link #install(HiLoGenId)}
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:55
+ */
+public class HiLoGenId implements GenId<Long> {
+
+    /** 默认的号段大小 */
+    public static final int DEFAULT_BLOCK_SIZE = 1000;
+
+    private final HiLoBlockAllocator allocator;
+
+    private final int blockSize;
+
+    /** 表名.列名 -> 当前号段 */
+    private final ConcurrentMap<String, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+
+    public HiLoGenId() {
+        this(null, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * 创建主键生成器
+     *
+     * @param allocator 号段来源
+     * @param blockSize 号段大小
+     */
+    public HiLoGenId(HiLoBlockAllocator allocator, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize必须大于0: " + blockSize);
+        }
+        this.allocator = allocator;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 替换通用Mapper缓存的实例，需要在第一次插入之前调用
+     *
+     * @param genId 主键生成器
+     */
+    public static void install(HiLoGenId genId) {
+        GenIdUtil.CACHE.put(HiLoGenId.class, genId);
+    }
+
+    @Override
+    public Long genId(String table, String column) {
+        if (allocator == null) {
+            throw new MapperException("HiLoGenId没有配置号段来源，请在启动时调用HiLoGenId.install");
+        }
+        AtomicReference<Block> current = blocks.computeIfAbsent(table + '.' + column,
+            key -> new AtomicReference<>(new Block(0, 0)));
+        while (true) {
+            Block block = current.get();
+            long id = block.next.getAndIncrement();
+            if (id < block.limit) {
+                return id;
+            }
+            if (block.refilling.compareAndSet(false, true)) {
+                try {
+                    long hi = allocator.nextHi(table, column);
+                    current.set(new Block(hi * blockSize, (hi + 1) * blockSize));
+                } catch (RuntimeException e) {
+                    block.refilling.set(false);
+                    throw e;
+                }
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * 号段，[next, limit)内的主键可用
+     */
+    private static final class Block {
+
+        private final AtomicLong next;
+
+        private final long limit;
+
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private Block(long start, long limit) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
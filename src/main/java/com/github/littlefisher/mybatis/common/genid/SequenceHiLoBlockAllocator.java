@@ -0,0 +1,51 @@
+package com.github.littlefisher.mybatis.common.genid;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.MessageFormat;
+import javax.sql.DataSource;
+import tk.mybatis.mapper.MapperException;
+
+/**
+ * 从数据库序列分配hi值，使用独立的连接，不受当前事务回滚的影响
+ * <p/>
+ * sql的写法与生成器generatedKey的sqlStatement一致，{0}为表名，{1}为大写的表名，例如
+ * {@code select SEQ_{1}.nextval from dual}
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:50
+ */
+public class SequenceHiLoBlockAllocator implements HiLoBlockAllocator {
+
+    private final DataSource dataSource;
+
+    private final String sql;
+
+    /**
+     * 创建号段分配器
+     *
+     * @param dataSource 数据源
+     * @param sql 查询序列的sql模板
+     */
+    public SequenceHiLoBlockAllocator(DataSource dataSource, String sql) {
+        this.dataSource = dataSource;
+        this.sql = sql;
+    }
+
+    @Override
+    public long nextHi(String table, String column) {
+        String nextHiSql = MessageFormat.format(sql, table, table.toUpperCase());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery(nextHiSql)) {
+            if (!rs.next()) {
+                throw new MapperException("序列没有返回值: " + nextHiSql);
+            }
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            throw new MapperException("获取" + table + "." + column + "的主键号段出错: " + nextHiSql, e);
+        }
+    }
+}
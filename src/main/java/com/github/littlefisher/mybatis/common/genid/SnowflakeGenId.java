@@ -0,0 +1,119 @@
+package com.github.littlefisher.mybatis.common.genid;
+
+import java.util.concurrent.atomic.AtomicLong;
+import tk.mybatis.mapper.genid.GenId;
+import tk.mybatis.mapper.genid.GenIdUtil;
+
+/**
+ * Snowflake风格的64位主键，在客户端生成，插入时不需要额外查询数据库，也不依赖JDBC回写主键，可以用于批量插入
+ * <p/>
+ * 从高到低依次为: 1位符号位、41位毫秒时间戳（相对{@link #DEFAULT_EPOCH}）、workerBits位机器号、(22 - workerBits)位序号。
+ * 时间戳和序号合并保存在一个AtomicLong中，通过CAS递增，竞争时不会阻塞。同一毫秒内序号用完或系统时钟回拨时，
+ * 沿用上一次的时间戳继续递增，保证生成的主键单调递增且不重复。
+ * <p/>
+ * 通用Mapper通过无参构造创建实例，机器号和位数读取系统属性{@value #WORKER_ID_PROPERTY}、{@value #WORKER_BITS_PROPERTY}，
+ * 也可以在启动时通过{@link #install(SnowflakeGenId)}指定实例
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:45
+ */
+public class SnowflakeGenId implements GenId<Long> {
+
+    /** 机器号的系统属性 */
+    public static final String WORKER_ID_PROPERTY = "littlefisher.genid.workerId";
+
+    /** 机器号位数的系统属性 */
+    public static final String WORKER_BITS_PROPERTY = "littlefisher.genid.workerBits";
+
+    /** 默认的机器号位数，最多1024个节点，每毫秒每个节点4096个主键 */
+    public static final int DEFAULT_WORKER_BITS = 10;
+
+    /** 默认的起始时间 2020-01-01 00:00:00 UTC */
+    public static final long DEFAULT_EPOCH = 1577836800000L;
+
+    /** 机器号和序号共用的位数 */
+    private static final int WORKER_AND_SEQUENCE_BITS = 22;
+
+    /** 序号至少保留的位数 */
+    private static final int MIN_SEQUENCE_BITS = 2;
+
+    private final long workerId;
+
+    private final int sequenceBits;
+
+    private final long sequenceMask;
+
+    private final long epoch;
+
+    /** (时间戳 << sequenceBits) | 序号 */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeGenId() {
+        this(Long.getLong(WORKER_ID_PROPERTY, 0L), Integer.getInteger(WORKER_BITS_PROPERTY, DEFAULT_WORKER_BITS),
+            DEFAULT_EPOCH);
+    }
+
+    /**
+     * 创建主键生成器
+     *
+     * @param workerId 机器号，同时运行的节点必须不同
+     * @param workerBits 机器号位数，剩余的位用于序号
+     * @param epoch 起始时间（毫秒），确定后不能再修改，否则可能生成重复的主键
+     */
+    public SnowflakeGenId(long workerId, int workerBits, long epoch) {
+        if (workerBits < 0 || workerBits > WORKER_AND_SEQUENCE_BITS - MIN_SEQUENCE_BITS) {
+            throw new IllegalArgumentException(
+                "workerBits必须在0到" + (WORKER_AND_SEQUENCE_BITS - MIN_SEQUENCE_BITS) + "之间: " + workerBits);
+        }
+        if (workerId < 0 || workerId >= 1L << workerBits) {
+            throw new IllegalArgumentException("workerId必须在0到" + ((1L << workerBits) - 1) + "之间: " + workerId);
+        }
+        if (epoch < 0 || epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException("epoch不能晚于当前时间: " + epoch);
+        }
+        this.workerId = workerId;
+        this.sequenceBits = WORKER_AND_SEQUENCE_BITS - workerBits;
+        this.sequenceMask = (1L << sequenceBits) - 1;
+        this.epoch = epoch;
+    }
+
+    /**
+     * 替换通用Mapper缓存的实例，需要在第一次插入之前调用
+     *
+     * @param genId 主键生成器
+     */
+    public static void install(SnowflakeGenId genId) {
+        GenIdUtil.CACHE.put(SnowflakeGenId.class, genId);
+    }
+
+    @Override
+    public Long genId(String table, String column) {
+        return nextId();
+    }
+
+    /**
+     * 生成下一个主键
+     *
+     * @return 主键
+     */
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> sequenceBits;
+            long timestamp = System.currentTimeMillis() - epoch;
+            long next;
+            if (timestamp > lastTimestamp) {
+                next = timestamp << sequenceBits;
+            } else if ((current & sequenceMask) < sequenceMask) {
+                next = current + 1;
+            } else {
+                // 序号用完或时钟回拨，借用下一毫秒
+                next = (lastTimestamp + 1) << sequenceBits;
+            }
+            if (state.compareAndSet(current, next)) {
+                return (next >>> sequenceBits) << WORKER_AND_SEQUENCE_BITS | workerId << sequenceBits
+                    | next & sequenceMask;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.littlefisher.mybatis.common.lazy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.builder.annotation.ProviderSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import tk.mybatis.mapper.mapperhelper.MapperHelper;
+import tk.mybatis.mapper.mapperhelper.MapperTemplate;
+import tk.mybatis.mapper.util.MetaObjectUtil;
+
+/**
+ * 延迟生成通用Mapper方法sql的MapperHelper
+ * <p/>
+ * 通用Mapper默认在启动时为每个Mapper的每个继承方法生成sql并解析为SqlSource，Mapper数量很多时占用大量启动时间。
+ * 该实现在启动时只初始化实体信息，并为每个方法注册{@link LazySqlSource}占位，方法第一次执行时才生成sql，线程安全。
+ * insert方法在执行前就需要keyGenerator，因此仍在启动时生成。
+ * 可配置的属性（与通用Mapper的其他属性一起配置）:
+ * <ul>
+ * <li>lazy: 是否延迟生成，默认true</li>
+ * <li>warmUpMethods: 启动时仍然生成的方法，逗号分隔，可以是方法名（如selectByPrimaryKey）或完整的statement id</li>
+ * </ul>
+ * 使用时替换原来的MapperHelper，如{@code mapperScannerConfigurer.setMapperHelper(new LazyMapperHelper())}，
+ * 或启动完成后调用{@link #warmUp(Configuration, Collection)}在后台预热
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:00
+ */
+public class LazyMapperHelper extends MapperHelper {
+
+    private boolean lazy = true;
+
+    private Set<String> warmUpMethods = Collections.emptySet();
+
+    public LazyMapperHelper() {}
+
+    public LazyMapperHelper(Properties properties) {
+        this();
+        setProperties(properties);
+    }
+
+    @Override
+    public void processMappedStatement(MappedStatement ms) {
+        MapperTemplate mapperTemplate = isMapperMethod(ms.getId());
+        if (mapperTemplate == null || !(ms.getSqlSource() instanceof ProviderSqlSource)) {
+            return;
+        }
+        if (!lazy || ms.getSqlCommandType() == SqlCommandType.INSERT || isWarmUpMethod(ms.getId(), warmUpMethods)) {
+            setSqlSource(ms, mapperTemplate);
+            return;
+        }
+        // Example等依赖实体信息，实体仍在启动时初始化
+        mapperTemplate.getEntityClass(ms);
+        MetaObjectUtil.forObject(ms)
+            .setValue("sqlSource", new LazySqlSource(ms, mapperTemplate, this));
+    }
+
+    /**
+     * 生成指定方法的sql
+     *
+     * @param configuration configuration
+     * @param methods 方法名或完整的statement id
+     * @return 本次生成的statement数量
+     */
+    public int warmUp(Configuration configuration, Collection<String> methods) {
+        return initialize(configuration, new HashSet<>(methods));
+    }
+
+    /**
+     * 生成所有尚未生成的sql
+     *
+     * @param configuration configuration
+     * @return 本次生成的statement数量
+     */
+    public int initializeAll(Configuration configuration) {
+        return initialize(configuration, null);
+    }
+
+    private int initialize(Configuration configuration, Set<String> methods) {
+        // getMappedStatements()中同一个statement会以完整id和短id各出现一次
+        Set<LazySqlSource> sqlSources = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object object : new ArrayList<Object>(configuration.getMappedStatements())) {
+            if (object instanceof MappedStatement) {
+                MappedStatement ms = (MappedStatement) object;
+                if (ms.getSqlSource() instanceof LazySqlSource && (methods == null || isWarmUpMethod(ms.getId(),
+                    methods))) {
+                    sqlSources.add((LazySqlSource) ms.getSqlSource());
+                }
+            }
+        }
+        for (LazySqlSource sqlSource : sqlSources) {
+            sqlSource.initialize();
+        }
+        return sqlSources.size();
+    }
+
+    private static boolean isWarmUpMethod(String msId, Set<String> methods) {
+        return methods.contains(msId) || methods.contains(msId.substring(msId.lastIndexOf('.') + 1));
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        super.setProperties(properties);
+        if (properties == null) {
+            return;
+        }
+        String lazyValue = properties.getProperty("lazy");
+        if (StringUtils.isNotBlank(lazyValue)) {
+            this.lazy = Boolean.parseBoolean(lazyValue.trim());
+        }
+        String methods = properties.getProperty("warmUpMethods");
+        if (StringUtils.isNotBlank(methods)) {
+            Set<String> set = new HashSet<>();
+            for (String method : StringUtils.split(methods, ',')) {
+                set.add(method.trim());
+            }
+            this.warmUpMethods = set;
+        }
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public Set<String> getWarmUpMethods() {
+        return warmUpMethods;
+    }
+
+    public void setWarmUpMethods(Set<String> warmUpMethods) {
+        this.warmUpMethods = warmUpMethods == null ? Collections.emptySet() : warmUpMethods;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.littlefisher.mybatis.common.lazy;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.mapperhelper.MapperHelper;
+import tk.mybatis.mapper.mapperhelper.MapperTemplate;
+
+/**
+ * 通用Mapper方法的占位SqlSource，第一次获取sql时才由{@link MapperTemplate}生成真正的SqlSource并替换自身
+ *
+ * @author jinyanan
+ * @since 2026/10/18 22:50
+ */
+class LazySqlSource implements SqlSource {
+
+    private final MappedStatement ms;
+
+    private final MapperTemplate mapperTemplate;
+
+    private final MapperHelper mapperHelper;
+
+    private boolean initialized;
+
+    LazySqlSource(MappedStatement ms, MapperTemplate mapperTemplate, MapperHelper mapperHelper) {
+        this.ms = ms;
+        this.mapperTemplate = mapperTemplate;
+        this.mapperHelper = mapperHelper;
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        return initialize().getBoundSql(parameterObject);
+    }
+
+    /**
+     * 生成真正的SqlSource，同一个statement只生成一次，生成失败时下次调用重试
+     *
+     * @return 真正的SqlSource
+     */
+    synchronized SqlSource initialize() {
+        if (!initialized) {
+            mapperHelper.setSqlSource(ms, mapperTemplate);
+            initialized = true;
+        }
+        SqlSource sqlSource = ms.getSqlSource();
+        if (sqlSource == this) {
+            throw new MapperException(ms.getId() + "延迟初始化后没有生成SqlSource");
+        }
+        return sqlSource;
+    }
+}
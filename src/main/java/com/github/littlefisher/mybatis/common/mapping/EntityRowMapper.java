@@ -0,0 +1,59 @@
+package com.github.littlefisher.mybatis.common.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 实体行映射，由MapperPlugin在开启entityRowMapperEnabled后为每个实体生成名为{@code 实体类名 + RowMapper}的实现
+ * <p/>
+ * 生成的实现按列下标调用对应类型的ResultSet getter并直接调用setter赋值，不经过MetaObject和TypeHandler查找，
+ * 由{@link EntityRowMapperInterceptor}在结果映射时使用
+ *
+ * @param <T> 实体类型
+ * @author jinyanan
+ * @since 2026/10/18 23:20
+ */
+public interface EntityRowMapper<T> {
+
+    /** 生成的行映射类名后缀 */
+    String CLASS_SUFFIX = "RowMapper";
+
+    /**
+     * 实体类
+     *
+     * @return 实体类
+     */
+    Class<T> getEntityClass();
+
+    /**
+     * 实体属性名，顺序与{@link #mapRow(ResultSet, int[], Object)}中的下标数组一致，返回的数组不能修改
+     *
+     * @return 属性名
+     */
+    String[] getProperties();
+
+    /**
+     * 属性对应的列名，不含分隔符，返回的数组不能修改
+     *
+     * @return 列名
+     */
+    String[] getColumns();
+
+    /**
+     * 创建实体
+     *
+     * @return 实体
+     */
+    T newInstance();
+
+    /**
+     * 将当前行映射到实体
+     *
+     * @param rs 结果集，已定位到当前行
+     * @param indexes 每个属性在结果集中的列下标（从1开始），0表示结果集中没有该列
+     * @param row 实体
+     * @return 是否读取到非null的值
+     * @throws SQLException 读取结果集出错
+     */
+    boolean mapRow(ResultSet rs, int[] indexes, T row) throws SQLException;
+}
@@ -0,0 +1,247 @@
+package com.github.littlefisher.mybatis.common.mapping;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.reflection.factory.DefaultObjectFactory;
+import org.apache.ibatis.reflection.wrapper.DefaultObjectWrapperFactory;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 使用生成的{@link EntityRowMapper}映射查询结果，替代MyBatis基于反射的结果映射
+ * <p/>
+ * 结果类型为实体、且实体存在对应RowMapper类的查询都会使用，包括通用Mapper的select方法和自定义的xml查询。
+ * 每个结果集只在开始时根据列名解析一次属性对应的列下标，之后每行按下标读取。以下情况仍交给MyBatis处理:
+ * <ul>
+ * <li>指定了ResultHandler或非默认的RowBounds</li>
+ * <li>多结果集、多个resultMap，或resultMap中包含嵌套映射、构造器映射、discriminator、自定义TypeHandler</li>
+ * <li>配置了自定义的ObjectFactory或ObjectWrapperFactory</li>
+ * </ul>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:25
+ */
+@Intercepts({@Signature(type = ResultSetHandler.class, method = "handleResultSets", args = Statement.class)})
+public class EntityRowMapperInterceptor implements Interceptor {
+
+    private static final Log log = LogFactory.getLog(EntityRowMapperInterceptor.class);
+
+    private static final String MYBATIS_TYPE_HANDLER_PACKAGE = "org.apache.ibatis.type.";
+
+    /** 实体类 -> 生成的RowMapper，不存在时为empty */
+    private static final ConcurrentMap<Class<?>, Optional<EntityRowMapper<?>>> ROW_MAPPERS =
+        new ConcurrentHashMap<>();
+
+    /** statement -> 可用的RowMapper，不能使用时为empty */
+    private final ConcurrentMap<MappedStatement, Optional<EntityRowMapper<?>>> statementRowMappers =
+        new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object target = invocation.getTarget();
+        MetaObject handler = SystemMetaObject.forObject(target);
+        while (Proxy.isProxyClass(target.getClass())) {
+            target = handler.getValue("h.target");
+            handler = SystemMetaObject.forObject(target);
+        }
+        if (!(target instanceof DefaultResultSetHandler) || handler.getValue("resultHandler") != null) {
+            return invocation.proceed();
+        }
+        RowBounds rowBounds = (RowBounds) handler.getValue("rowBounds");
+        if (rowBounds.getOffset() != RowBounds.NO_ROW_OFFSET || rowBounds.getLimit() != RowBounds.NO_ROW_LIMIT) {
+            return invocation.proceed();
+        }
+        MappedStatement ms = (MappedStatement) handler.getValue("mappedStatement");
+        EntityRowMapper<?> rowMapper = statementRowMappers.computeIfAbsent(ms,
+            key -> Optional.ofNullable(resolveRowMapper(key)))
+            .orElse(null);
+        if (rowMapper == null) {
+            return invocation.proceed();
+        }
+        return handleResultSet((Statement) invocation.getArgs()[0], ms, rowMapper);
+    }
+
+    /**
+     * 映射第一个结果集，与{@link DefaultResultSetHandler}一样跳过前面的更新计数
+     *
+     * @param stmt statement
+     * @param ms MappedStatement
+     * @param rowMapper 行映射
+     * @param <T> 实体类型
+     * @return 结果
+     * @throws SQLException 读取结果集出错
+     */
+    private <T> List<Object> handleResultSet(Statement stmt, MappedStatement ms, EntityRowMapper<T> rowMapper)
+        throws SQLException {
+        List<Object> rows = new ArrayList<>();
+        ResultSet rs = stmt.getResultSet();
+        while (rs == null) {
+            if (stmt.getMoreResults()) {
+                rs = stmt.getResultSet();
+            } else if (stmt.getUpdateCount() == -1) {
+                return rows;
+            }
+        }
+        try {
+            Configuration configuration = ms.getConfiguration();
+            int[] indexes = resolveIndexes(rs.getMetaData(), ms.getResultMaps()
+                .get(0), rowMapper, configuration);
+            boolean returnInstanceForEmptyRow = configuration.isReturnInstanceForEmptyRow();
+            while (rs.next()) {
+                T row = rowMapper.newInstance();
+                rows.add(rowMapper.mapRow(rs, indexes, row) || returnInstanceForEmptyRow ? row : null);
+            }
+            return rows;
+        } finally {
+            try {
+                rs.close();
+            } catch (SQLException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * 根据结果集的列名解析每个属性的列下标，优先使用resultMap中的列映射，其次按列名或属性名匹配
+     *
+     * @param metaData 结果集元数据
+     * @param resultMap resultMap
+     * @param rowMapper 行映射
+     * @param configuration 配置
+     * @return 属性对应的列下标
+     * @throws SQLException 读取元数据出错
+     */
+    private static int[] resolveIndexes(ResultSetMetaData metaData, ResultMap resultMap, EntityRowMapper<?> rowMapper,
+        Configuration configuration) throws SQLException {
+        String[] properties = rowMapper.getProperties();
+        String[] columns = rowMapper.getColumns();
+        Map<String, Integer> propertyIndexes = new HashMap<>(properties.length * 2);
+        for (int i = 0; i < properties.length; i++) {
+            propertyIndexes.put(properties[i], i);
+        }
+        int[] indexes = new int[properties.length];
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            String label = configuration.isUseColumnLabel() ? metaData.getColumnLabel(column)
+                : metaData.getColumnName(column);
+            String property = null;
+            for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
+                if (label.equalsIgnoreCase(resultMapping.getColumn())) {
+                    property = resultMapping.getProperty();
+                    break;
+                }
+            }
+            Integer index = property == null ? null : propertyIndexes.get(property);
+            for (int i = 0; index == null && i < properties.length; i++) {
+                if (label.equalsIgnoreCase(properties[i]) || label.equalsIgnoreCase(columns[i])
+                    || configuration.isMapUnderscoreToCamelCase() && label.replace("_", "")
+                    .equalsIgnoreCase(properties[i])) {
+                    index = i;
+                }
+            }
+            if (index != null && indexes[index] == 0) {
+                indexes[index] = column;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * 判断statement能否使用生成的行映射
+     *
+     * @param ms MappedStatement
+     * @return 行映射，不能使用时为null
+     */
+    private static EntityRowMapper<?> resolveRowMapper(MappedStatement ms) {
+        Configuration configuration = ms.getConfiguration();
+        if (ms.getResultSets() != null || ms.getResultMaps()
+            .size() != 1 || !(configuration.getObjectFactory() instanceof DefaultObjectFactory)
+            || !(configuration.getObjectWrapperFactory() instanceof DefaultObjectWrapperFactory)) {
+            return null;
+        }
+        ResultMap resultMap = ms.getResultMaps()
+            .get(0);
+        if (resultMap.hasNestedResultMaps() || resultMap.hasNestedQueries() || resultMap.getDiscriminator() != null
+            || !resultMap.getConstructorResultMappings()
+            .isEmpty()) {
+            return null;
+        }
+        EntityRowMapper<?> rowMapper = getRowMapper(resultMap.getType());
+        if (rowMapper == null) {
+            return null;
+        }
+        List<String> properties = Arrays.asList(rowMapper.getProperties());
+        for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
+            if (!properties.contains(resultMapping.getProperty()) || !resultMapping.getComposites()
+                .isEmpty() || resultMapping.getColumnPrefix() != null || resultMapping.getTypeHandler() != null
+                && !resultMapping.getTypeHandler()
+                .getClass()
+                .getName()
+                .startsWith(MYBATIS_TYPE_HANDLER_PACKAGE)) {
+                return null;
+            }
+        }
+        return rowMapper;
+    }
+
+    /**
+     * 获取实体对应的生成的行映射
+     *
+     * @param entityClass 实体类
+     * @return 行映射，不存在时为null
+     */
+    private static EntityRowMapper<?> getRowMapper(Class<?> entityClass) {
+        return ROW_MAPPERS.computeIfAbsent(entityClass, type -> {
+            try {
+                Class<?> rowMapperClass = Class.forName(type.getName() + EntityRowMapper.CLASS_SUFFIX, true,
+                    type.getClassLoader());
+                if (EntityRowMapper.class.isAssignableFrom(rowMapperClass)) {
+                    EntityRowMapper<?> rowMapper = (EntityRowMapper<?>) rowMapperClass.getDeclaredConstructor()
+                        .newInstance();
+                    if (rowMapper.getEntityClass() == type) {
+                        return Optional.of(rowMapper);
+                    }
+                }
+            } catch (ClassNotFoundException e) {
+                // 没有生成行映射
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug("Instantiate row mapper of " + type.getName() + " failed, fall back to reflection: " + e);
+            }
+            return Optional.empty();
+        })
+            .orElse(null);
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return target instanceof ResultSetHandler ? Plugin.wrap(target, this) : target;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {}
+}
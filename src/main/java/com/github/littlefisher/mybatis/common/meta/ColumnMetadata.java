@@ -0,0 +1,29 @@
+package com.github.littlefisher.mybatis.common.meta;
+
+import lombok.Value;
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * 生成器预先计算的列信息，与实体字段上生成的注解一一对应
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:10
+ */
+@Value
+public class ColumnMetadata {
+
+    /** 实体属性名 */
+    String property;
+
+    /** @Column指定的列名，未生成@Column时为null，由运行时按style转换属性名 */
+    String column;
+
+    /** 是否主键，对应@Id */
+    boolean id;
+
+    /** 是否带有@GeneratedValue等主键生成注解，需要交给通用Mapper解析主键生成策略 */
+    boolean keyGenerated;
+
+    /** @ColumnType指定的jdbcType，未指定时为null */
+    JdbcType jdbcType;
+}
@@ -0,0 +1,50 @@
+package com.github.littlefisher.mybatis.common.meta;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 实体元数据，由MapperPlugin在开启entityMetadataEnabled后为每个实体生成名为{@code 实体类名 + Metadata}的子类
+ * <p/>
+ * {@link GeneratedEntityResolve}优先使用该类构造通用Mapper的EntityTable，避免启动时反射解析实体字段和注解
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:10
+ */
+public abstract class EntityMetadata {
+
+    /** 生成的元数据类名后缀 */
+    public static final String CLASS_SUFFIX = "Metadata";
+
+    private final Class<?> entityClass;
+
+    private final String tableName;
+
+    private final List<ColumnMetadata> columns;
+
+    /**
+     * 构造实体元数据
+     *
+     * @param entityClass 实体类
+     * @param tableName @Table指定的表名，未生成@Table时为null，由运行时按style转换类名
+     * @param columns 列信息，顺序与实体字段一致
+     */
+    protected EntityMetadata(Class<?> entityClass, String tableName, ColumnMetadata... columns) {
+        this.entityClass = entityClass;
+        this.tableName = tableName;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<ColumnMetadata> getColumns() {
+        return columns;
+    }
+}
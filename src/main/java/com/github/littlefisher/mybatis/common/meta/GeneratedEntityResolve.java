@@ -0,0 +1,156 @@
+package com.github.littlefisher.mybatis.common.meta;
+
+import java.lang.reflect.Field;
+import java.text.MessageFormat;
+import java.util.LinkedHashSet;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import tk.mybatis.mapper.annotation.NameStyle;
+import tk.mybatis.mapper.code.Style;
+import tk.mybatis.mapper.entity.Config;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.entity.EntityField;
+import tk.mybatis.mapper.entity.EntityTable;
+import tk.mybatis.mapper.mapperhelper.resolve.DefaultEntityResolve;
+import tk.mybatis.mapper.util.SqlReservedWords;
+import tk.mybatis.mapper.util.StringUtil;
+
+/**
+ * 优先使用生成器生成的{@link EntityMetadata}构造EntityTable，找不到或不匹配时回退到通用Mapper默认的反射解析
+ * <p/>
+ * 生成的元数据只记录注解上的值，表名和列名的style转换、关键字包装仍按运行时的Config处理，结果与反射解析一致，
+ * 省去了启动时对实体字段、getter/setter和注解的逐个扫描。通过通用Mapper配置启用：
+ * <pre>
+ * mapper.resolveClass=com.github.littlefisher.mybatis.common.meta.GeneratedEntityResolve
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 23:15
+ */
+public class GeneratedEntityResolve extends DefaultEntityResolve {
+
+    private static final Log log = LogFactory.getLog(GeneratedEntityResolve.class);
+
+    @Override
+    public EntityTable resolveEntity(Class<?> entityClass, Config config) {
+        EntityMetadata metadata = config.isEnableMethodAnnotation() ? null : loadMetadata(entityClass);
+        EntityTable entityTable = metadata == null ? null : buildEntityTable(entityClass, metadata, config);
+        return entityTable != null ? entityTable : super.resolveEntity(entityClass, config);
+    }
+
+    /**
+     * 加载实体对应的元数据类
+     *
+     * @param entityClass 实体类
+     * @return 元数据，不存在或不属于该实体时为null
+     */
+    private EntityMetadata loadMetadata(Class<?> entityClass) {
+        Class<?> metadataClass;
+        try {
+            metadataClass = Class.forName(entityClass.getName() + EntityMetadata.CLASS_SUFFIX, true,
+                entityClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!EntityMetadata.class.isAssignableFrom(metadataClass)) {
+            return null;
+        }
+        try {
+            EntityMetadata metadata = (EntityMetadata) metadataClass.getDeclaredConstructor()
+                .newInstance();
+            return metadata.getEntityClass() == entityClass ? metadata : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Instantiate " + metadataClass.getName() + " failed, fall back to reflection: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * 根据元数据构造EntityTable，处理方式与{@link DefaultEntityResolve}一致
+     *
+     * @param entityClass 实体类
+     * @param metadata 元数据
+     * @param config 通用Mapper配置
+     * @return EntityTable，元数据与实体字段对不上时为null
+     */
+    private EntityTable buildEntityTable(Class<?> entityClass, EntityMetadata metadata, Config config) {
+        Style style = config.getStyle();
+        NameStyle nameStyle = entityClass.getAnnotation(NameStyle.class);
+        if (nameStyle != null) {
+            style = nameStyle.value();
+        }
+        EntityTable entityTable = new EntityTable(entityClass);
+        String tableName = metadata.getTableName();
+        entityTable.setName(tableName != null ? tableName : wrapKeyword(
+            StringUtil.convertByStyle(entityClass.getSimpleName(), style), config));
+        entityTable.setEntityClassColumns(new LinkedHashSet<>());
+        entityTable.setEntityClassPKColumns(new LinkedHashSet<>());
+        for (ColumnMetadata columnMetadata : metadata.getColumns()) {
+            Field field = findField(entityClass, columnMetadata.getProperty());
+            if (field == null) {
+                log.debug("Field " + columnMetadata.getProperty() + " of " + entityClass.getName()
+                    + " not found, fall back to reflection");
+                return null;
+            }
+            EntityField entityField = new EntityField(field, null);
+            EntityColumn entityColumn = new EntityColumn(entityTable);
+            entityColumn.setUseJavaType(config.isUseJavaType());
+            entityColumn.setEntityField(entityField);
+            entityColumn.setId(columnMetadata.isId());
+            entityColumn.setProperty(columnMetadata.getProperty());
+            entityColumn.setColumn(columnMetadata.getColumn() != null ? columnMetadata.getColumn()
+                : wrapKeyword(StringUtil.convertByStyle(columnMetadata.getProperty(), style), config));
+            entityColumn.setJavaType(entityField.getJavaType());
+            if (columnMetadata.getJdbcType() != null) {
+                entityColumn.setJdbcType(columnMetadata.getJdbcType());
+            }
+            if (columnMetadata.isKeyGenerated()) {
+                processKeyGenerator(entityTable, entityField, entityColumn);
+            }
+            entityTable.getEntityClassColumns()
+                .add(entityColumn);
+            if (entityColumn.isId()) {
+                entityTable.getEntityClassPKColumns()
+                    .add(entityColumn);
+            }
+        }
+        if (entityTable.getEntityClassPKColumns()
+            .isEmpty()) {
+            entityTable.setEntityClassPKColumns(entityTable.getEntityClassColumns());
+        }
+        entityTable.initPropertyMap();
+        return entityTable;
+    }
+
+    /**
+     * 与通用Mapper一致，对数据库关键字按wrapKeyword包装
+     *
+     * @param name 表名或列名
+     * @param config 通用Mapper配置
+     * @return 包装后的名称
+     */
+    private static String wrapKeyword(String name, Config config) {
+        if (StringUtil.isNotEmpty(config.getWrapKeyword()) && SqlReservedWords.containsWord(name)) {
+            return MessageFormat.format(config.getWrapKeyword(), name);
+        }
+        return name;
+    }
+
+    /**
+     * 在实体类及其父类中查找字段
+     *
+     * @param entityClass 实体类
+     * @param name 字段名
+     * @return 字段，不存在时为null
+     */
+    private static Field findField(Class<?> entityClass, String name) {
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // 继续查找父类
+            }
+        }
+        return null;
+    }
+}
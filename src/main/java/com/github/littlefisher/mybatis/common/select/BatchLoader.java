@@ -0,0 +1,228 @@
+package com.github.littlefisher.mybatis.common.select;
+
+import com.github.littlefisher.mybatis.common.util.PrimaryKeyUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import tk.mybatis.mapper.common.Mapper;
+
+/**
+ * 合并按主键查询的加载器，用于解决循环中逐条selectByPrimaryKey的N+1问题
+ * <p/>
+ * {@link #load(Object)}只登记主键并返回future，{@link #dispatch()}时将登记的主键去重后通过
+ * {@link SelectByIdsHelper#selectMapByIds(Mapper, Collection, int)}分批IN查询，再完成各自的future，
+ * 不存在的主键以null完成。已加载或正在加载的主键直接复用同一个future，因此一个加载器即一个缓存作用域，
+ * 一般每个请求创建一个，不要跨请求共享，否则会读到旧数据。
+ * <pre>
+ * BatchLoader&lt;Long, User&gt; loader = BatchLoader.create(userMapper);
+ * orders.forEach(order -&gt; loader.load(order.getUserId()).thenAccept(order::setUser));
+ * loader.dispatch();
+ * </pre>
+ * 使用{@link #windowed(Mapper, long, ScheduledExecutorService)}创建时，第一个未加载的主键登记后windowMillis自动dispatch，
+ * 查询在scheduler的线程中执行，此时mapper需要是线程安全的（如Spring的SqlSessionTemplate代理）
+ *
+ * @author jinyanan
+ * @since 2026/10/18 21:40
+ */
+public class BatchLoader<K, T> {
+
+    private final Mapper<T> mapper;
+
+    private final int chunkSize;
+
+    private final long windowMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    /** 归一化后的主键 -> 结果，包含已完成和等待dispatch的 */
+    private final ConcurrentMap<Object, CompletableFuture<T>> futures = new ConcurrentHashMap<>();
+
+    /** 等待dispatch的主键，归一化后的主键 -> 原始主键 */
+    private Map<Object, K> pending = new LinkedHashMap<>();
+
+    private BatchLoader(Mapper<T> mapper, int chunkSize, long windowMillis, ScheduledExecutorService scheduler) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize必须大于0");
+        }
+        this.mapper = mapper;
+        this.chunkSize = chunkSize;
+        this.windowMillis = windowMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 创建手动dispatch的加载器
+     *
+     * @param mapper mapper
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 加载器
+     */
+    public static <K, T> BatchLoader<K, T> create(Mapper<T> mapper) {
+        return create(mapper, SelectByIdsHelper.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 创建手动dispatch的加载器
+     *
+     * @param mapper mapper
+     * @param chunkSize 每个IN列表的主键数量
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 加载器
+     */
+    public static <K, T> BatchLoader<K, T> create(Mapper<T> mapper, int chunkSize) {
+        return new BatchLoader<>(mapper, chunkSize, 0, null);
+    }
+
+    /**
+     * 创建按时间窗口自动dispatch的加载器
+     *
+     * @param mapper 线程安全的mapper
+     * @param windowMillis 第一个主键登记后等待的时间（毫秒）
+     * @param scheduler 执行dispatch的线程池
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 加载器
+     */
+    public static <K, T> BatchLoader<K, T> windowed(Mapper<T> mapper, long windowMillis,
+        ScheduledExecutorService scheduler) {
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler不能为空");
+        }
+        return new BatchLoader<>(mapper, SelectByIdsHelper.DEFAULT_CHUNK_SIZE, Math.max(0, windowMillis), scheduler);
+    }
+
+    /**
+     * 登记一个主键
+     *
+     * @param id 主键，不能为null
+     * @return 实体，不存在时为null
+     */
+    public CompletableFuture<T> load(K id) {
+        if (id == null) {
+            throw new IllegalArgumentException("主键不能为null");
+        }
+        Object key = PrimaryKeyUtil.normalize(id);
+        CompletableFuture<T> future = futures.get(key);
+        if (future != null) {
+            return future;
+        }
+        boolean schedule;
+        synchronized (this) {
+            future = futures.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            futures.put(key, future);
+            schedule = pending.isEmpty();
+            pending.put(key, id);
+        }
+        if (schedule && scheduler != null) {
+            scheduler.schedule(this::dispatch, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * 登记多个主键
+     *
+     * @param ids 主键
+     * @return 实体列表，与ids一一对应，不存在的主键对应null
+     */
+    public CompletableFuture<List<T>> loadMany(Collection<? extends K> ids) {
+        List<CompletableFuture<T>> list = new ArrayList<>(ids.size());
+        for (K id : ids) {
+            list.add(load(id));
+        }
+        return CompletableFuture.allOf(list.toArray(new CompletableFuture<?>[0]))
+            .thenApply(v -> {
+                List<T> rows = new ArrayList<>(list.size());
+                for (CompletableFuture<T> future : list) {
+                    rows.add(future.join());
+                }
+                return rows;
+            });
+    }
+
+    /**
+     * 查询所有已登记未加载的主键并完成对应的future，查询失败时这些future以异常完成，且不再缓存
+     */
+    public void dispatch() {
+        Map<Object, K> batch;
+        Map<Object, CompletableFuture<T>> batchFutures = new LinkedHashMap<>();
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            for (Object key : batch.keySet()) {
+                batchFutures.put(key, futures.get(key));
+            }
+        }
+        Map<K, T> rows;
+        try {
+            rows = SelectByIdsHelper.selectMapByIds(mapper, batch.values(), chunkSize);
+        } catch (RuntimeException e) {
+            batchFutures.forEach((key, future) -> {
+                futures.remove(key, future);
+                future.completeExceptionally(e);
+            });
+            return;
+        }
+        for (Map.Entry<Object, K> entry : batch.entrySet()) {
+            batchFutures.get(entry.getKey())
+                .complete(rows.get(entry.getValue()));
+        }
+    }
+
+    /**
+     * 将已知的实体放入当前作用域，已加载或正在加载的主键不覆盖
+     *
+     * @param id 主键
+     * @param value 实体
+     */
+    public void prime(K id, T value) {
+        futures.putIfAbsent(PrimaryKeyUtil.normalize(id), CompletableFuture.completedFuture(value));
+    }
+
+    /**
+     * 移除已加载的主键，下次load时重新查询，正在等待dispatch的主键不受影响
+     *
+     * @param id 主键
+     */
+    public void clear(K id) {
+        Object key = PrimaryKeyUtil.normalize(id);
+        synchronized (this) {
+            if (!pending.containsKey(key)) {
+                futures.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 移除所有已加载的主键，正在等待dispatch的主键不受影响
+     */
+    public synchronized void clearAll() {
+        futures.keySet()
+            .retainAll(pending.keySet());
+    }
+
+    /**
+     * 获取等待dispatch的主键数量
+     *
+     * @return 主键数量
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+}
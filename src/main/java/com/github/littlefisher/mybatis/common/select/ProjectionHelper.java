@@ -0,0 +1,254 @@
+package com.github.littlefisher.mybatis.common.select;
+
+import java.beans.Introspector;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import tk.mybatis.mapper.common.Mapper;
+import tk.mybatis.mapper.entity.Example;
+
+/**
+ * 只查询部分列的投影查询
+ * <p/>
+ * 基于{@link Example#selectProperties(String...)}，只查询指定属性对应的列，宽表中的TEXT/BLOB等未选中的列不会传输。
+ * 投影类型可以是:
+ * <ul>
+ * <li>接口: 按getter推断属性，不能包含default方法，返回基于实体的只读代理，不复制数据</li>
+ * <li>类: 按setter推断属性，需要无参构造方法，返回复制了对应属性值的新对象</li>
+ * </ul>
+ * 投影类型的属性必须都是实体的属性。查询期间会临时修改example的查询列，查询结束后还原
+ * <pre>
+ * List&lt;ProductSummary&gt; summaries = ProjectionHelper.selectProjection(productMapper, example, ProductSummary.class);
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 19:20
+ */
+public final class ProjectionHelper {
+
+    /** Example中的查询列，没有公开的setter */
+    private static final Field SELECT_COLUMNS_FIELD;
+
+    /** 投影类型 -> 投影信息 */
+    private static final ConcurrentMap<Class<?>, Projection> PROJECTIONS = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            SELECT_COLUMNS_FIELD = Example.class.getDeclaredField("selectColumns");
+            SELECT_COLUMNS_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ProjectionHelper() {}
+
+    /**
+     * 只查询指定属性，返回的实体中其他属性为null
+     *
+     * @param mapper mapper
+     * @param example 查询条件
+     * @param properties 需要查询的属性
+     * @param <T> 实体类型
+     * @return 实体列表
+     */
+    public static <T> List<T> selectProperties(Mapper<T> mapper, Example example, String... properties) {
+        if (ArrayUtils.isEmpty(properties)) {
+            throw new IllegalArgumentException("投影查询至少需要一个属性");
+        }
+        Map<String, ?> propertyMap = example.getPropertyMap();
+        for (String property : properties) {
+            if (!propertyMap.containsKey(property)) {
+                throw new IllegalArgumentException("属性" + property + "不是" + example.getEntityClass()
+                    .getName() + "的属性");
+            }
+        }
+        Object originalSelectColumns = getSelectColumns(example);
+        try {
+            setSelectColumns(example, null);
+            example.selectProperties(properties);
+            return mapper.selectByExample(example);
+        } finally {
+            setSelectColumns(example, originalSelectColumns);
+        }
+    }
+
+    /**
+     * 只查询投影类型中的属性，并转换为投影类型
+     *
+     * @param mapper mapper
+     * @param example 查询条件
+     * @param projectionType 投影接口或类
+     * @param <T> 实体类型
+     * @param <P> 投影类型
+     * @return 投影列表
+     */
+    public static <T, P> List<P> selectProjection(Mapper<T> mapper, Example example, Class<P> projectionType) {
+        Projection projection = PROJECTIONS.computeIfAbsent(projectionType, Projection::new);
+        List<T> rows = selectProperties(mapper, example, projection.properties);
+        List<P> result = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            result.add(projectionType.cast(projection.convert(row)));
+        }
+        return result;
+    }
+
+    private static Object getSelectColumns(Example example) {
+        try {
+            Object selectColumns = SELECT_COLUMNS_FIELD.get(example);
+            return selectColumns == null ? null : new LinkedHashSet<>((Set<?>) selectColumns);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void setSelectColumns(Example example, Object selectColumns) {
+        try {
+            SELECT_COLUMNS_FIELD.set(example, selectColumns);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 投影类型的属性和转换逻辑
+     */
+    private static class Projection {
+
+        private final Class<?> type;
+
+        private final String[] properties;
+
+        /** 接口方法 -> 属性名，仅接口投影使用 */
+        private final Map<Method, String> getterProperties = new HashMap<>();
+
+        Projection(Class<?> type) {
+            this.type = type;
+            Set<String> propertySet = new LinkedHashSet<>();
+            if (type.isInterface()) {
+                for (Method method : type.getMethods()) {
+                    if (Modifier.isStatic(method.getModifiers())) {
+                        continue;
+                    }
+                    if (method.isDefault()) {
+                        // 代理无法在各JDK版本上可靠地调用接口的default方法
+                        throw new IllegalArgumentException("投影接口" + type.getName() + "不能包含default方法: " + method);
+                    }
+                    String property = getPropertyName(method);
+                    if (property == null) {
+                        throw new IllegalArgumentException("投影接口" + type.getName() + "只能包含getter方法: " + method);
+                    }
+                    getterProperties.put(method, property);
+                    propertySet.add(property);
+                }
+            } else {
+                Collections.addAll(propertySet, new Reflector(type).getSetablePropertyNames());
+            }
+            if (propertySet.isEmpty()) {
+                throw new IllegalArgumentException("投影类型" + type.getName() + "没有属性");
+            }
+            this.properties = propertySet.toArray(new String[0]);
+        }
+
+        private static String getPropertyName(Method method) {
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                return null;
+            }
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3) {
+                return Introspector.decapitalize(name.substring(3));
+            }
+            if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+                return Introspector.decapitalize(name.substring(2));
+            }
+            return null;
+        }
+
+        Object convert(Object row) {
+            MetaObject source = SystemMetaObject.forObject(row);
+            if (type.isInterface()) {
+                return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                    new ProjectionInvocationHandler(type, source, getterProperties));
+            }
+            MetaObject target = SystemMetaObject.forObject(SystemMetaObject.DEFAULT_OBJECT_FACTORY.create(type));
+            for (String property : properties) {
+                target.setValue(property, source.getValue(property));
+            }
+            return target.getOriginalObject();
+        }
+    }
+
+    /**
+     * 接口投影的代理，getter直接读取实体的属性
+     */
+    private static class ProjectionInvocationHandler implements InvocationHandler {
+
+        private final Class<?> type;
+
+        private final MetaObject source;
+
+        private final Map<Method, String> getterProperties;
+
+        ProjectionInvocationHandler(Class<?> type, MetaObject source, Map<Method, String> getterProperties) {
+            this.type = type;
+            this.source = source;
+            this.getterProperties = getterProperties;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String property = getterProperties.get(method);
+            if (property != null) {
+                return source.getValue(property);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return toString(proxy);
+                    default:
+                        try {
+                            return method.invoke(this, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                }
+            }
+            throw new UnsupportedOperationException("投影接口不支持方法: " + method);
+        }
+
+        private String toString(Object proxy) {
+            StringBuilder sb = new StringBuilder(type.getSimpleName()).append('{');
+            boolean first = true;
+            for (String property : new LinkedHashSet<>(getterProperties.values())) {
+                sb.append(first ? "" : ", ")
+                    .append(property)
+                    .append('=')
+                    .append(source.getValue(property));
+                first = false;
+            }
+            return sb.append('}')
+                .toString();
+        }
+    }
+}
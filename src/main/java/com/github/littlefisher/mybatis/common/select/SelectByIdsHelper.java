@@ -0,0 +1,252 @@
+package com.github.littlefisher.mybatis.common.select;
+
+import com.github.littlefisher.mybatis.common.util.MappedStatementUtil;
+import com.github.littlefisher.mybatis.common.util.PrimaryKeyUtil;
+import com.github.littlefisher.mybatis.pagehelper.PageExecutors;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.common.Mapper;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.entity.Example;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 按主键批量查询
+ * <p/>
+ * 输入的主键去重后按chunkSize拆分为多个{@code IN}查询，避免超长的IN列表超出驱动限制或得到较差的执行计划，
+ * 结果按输入主键的顺序返回，不存在的主键直接跳过。只支持单列主键。
+ * 数值类型的主键按数值比较，输入的Integer可以匹配实体中的Long
+ * <pre>
+ * List&lt;User&gt; users = SelectByIdsHelper.selectByIds(userMapper, ids);
+ * Map&lt;Long, User&gt; userMap = SelectByIdsHelper.selectMapByIds(userMapper, ids);
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 17:55
+ */
+public final class SelectByIdsHelper {
+
+    /** 默认每个IN列表的主键数量 */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private SelectByIdsHelper() {}
+
+    /**
+     * 按主键查询，结果按输入顺序排列
+     *
+     * @param mapper mapper
+     * @param ids 主键
+     * @param <T> 实体类型
+     * @return 实体列表
+     */
+    public static <T> List<T> selectByIds(Mapper<T> mapper, Collection<?> ids) {
+        return selectByIds(mapper, ids, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 按主键查询，结果按输入顺序排列
+     *
+     * @param mapper mapper
+     * @param ids 主键
+     * @param chunkSize 每个IN列表的主键数量
+     * @param <T> 实体类型
+     * @return 实体列表
+     */
+    public static <T> List<T> selectByIds(Mapper<T> mapper, Collection<?> ids, int chunkSize) {
+        return new ArrayList<>(selectMapByIds(mapper, ids, chunkSize).values());
+    }
+
+    /**
+     * 按主键查询
+     *
+     * @param mapper mapper
+     * @param ids 主键
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 输入主键到实体的映射，按输入顺序排列，不包含不存在的主键
+     */
+    public static <K, T> Map<K, T> selectMapByIds(Mapper<T> mapper, Collection<K> ids) {
+        return selectMapByIds(mapper, ids, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 按主键查询
+     *
+     * @param mapper mapper
+     * @param ids 主键
+     * @param chunkSize 每个IN列表的主键数量
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 输入主键到实体的映射，按输入顺序排列，不包含不存在的主键
+     */
+    public static <K, T> Map<K, T> selectMapByIds(Mapper<T> mapper, Collection<K> ids, int chunkSize) {
+        Class<?> entityClass = getEntityClass(mapper.getClass());
+        String pkProperty = getPkProperty(entityClass);
+        List<K> distinctIds = distinct(ids);
+        List<T> rows = new ArrayList<>(distinctIds.size());
+        for (List<K> chunk : Lists.partition(distinctIds, checkChunkSize(chunkSize))) {
+            rows.addAll(mapper.selectByExample(newExample(entityClass, pkProperty, chunk)));
+        }
+        return toOrderedMap(distinctIds, rows, pkProperty);
+    }
+
+    /**
+     * 按主键并行查询，每个IN列表在线程池中使用独立的会话和连接执行，结果按输入顺序排列
+     * <p/>
+     * 各个会话不在调用方的事务中，读不到调用方未提交的数据
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param ids 主键
+     * @param chunkSize 每个IN列表的主键数量
+     * @param <T> 实体类型
+     * @return 实体列表
+     */
+    public static <T> List<T> selectByIdsParallel(SqlSessionFactory sqlSessionFactory,
+        Class<? extends Mapper<T>> mapperClass, Collection<?> ids, int chunkSize) {
+        return new ArrayList<>(
+            selectMapByIdsParallel(sqlSessionFactory, mapperClass, ids, chunkSize, PageExecutors.getDefaultExecutor())
+                .values());
+    }
+
+    /**
+     * 按主键并行查询，每个IN列表在线程池中使用独立的会话和连接执行
+     * <p/>
+     * 并发数受executor和连接池大小限制，各个会话不在调用方的事务中，读不到调用方未提交的数据
+     *
+     * @param sqlSessionFactory sqlSessionFactory
+     * @param mapperClass mapper接口
+     * @param ids 主键
+     * @param chunkSize 每个IN列表的主键数量
+     * @param executor 执行查询的线程池
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 输入主键到实体的映射，按输入顺序排列，不包含不存在的主键
+     */
+    public static <K, T> Map<K, T> selectMapByIdsParallel(SqlSessionFactory sqlSessionFactory,
+        Class<? extends Mapper<T>> mapperClass, Collection<K> ids, int chunkSize, Executor executor) {
+        Class<?> entityClass = getEntityClass(mapperClass);
+        String pkProperty = getPkProperty(entityClass);
+        List<K> distinctIds = distinct(ids);
+        List<List<K>> chunks = Lists.partition(distinctIds, checkChunkSize(chunkSize));
+        if (chunks.size() <= 1) {
+            try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+                return selectMapByIds(sqlSession.getMapper(mapperClass), distinctIds, chunkSize);
+            }
+        }
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(chunks.size());
+        for (List<K> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+                    return sqlSession.getMapper(mapperClass)
+                        .selectByExample(newExample(entityClass, pkProperty, chunk));
+                }
+            }, executor));
+        }
+        List<T> rows = new ArrayList<>(distinctIds.size());
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                rows.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+        return toOrderedMap(distinctIds, rows, pkProperty);
+    }
+
+    private static Class<?> getEntityClass(Class<?> mapperClass) {
+        Class<?> entityClass = MappedStatementUtil.getEntityClass(mapperClass);
+        if (entityClass == null) {
+            throw new MapperException("无法获取" + mapperClass.getName() + "对应的实体类");
+        }
+        return entityClass;
+    }
+
+    private static String getPkProperty(Class<?> entityClass) {
+        Set<EntityColumn> pkColumns = EntityHelper.getPKColumns(entityClass);
+        if (pkColumns.size() != 1) {
+            throw new MapperException(
+                "按主键批量查询只支持单列主键，实体类" + entityClass.getName() + "包含" + pkColumns.size() + "个主键");
+        }
+        return pkColumns.iterator()
+            .next()
+            .getProperty();
+    }
+
+    private static int checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize必须大于0");
+        }
+        return chunkSize;
+    }
+
+    /**
+     * 去除null和重复的主键，保持输入顺序
+     *
+     * @param ids 主键
+     * @param <K> 主键类型
+     * @return 去重后的主键
+     */
+    private static <K> List<K> distinct(Collection<K> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return new ArrayList<>();
+        }
+        Map<Object, K> distinctIds = new LinkedHashMap<>();
+        for (K id : ids) {
+            if (id != null) {
+                distinctIds.putIfAbsent(PrimaryKeyUtil.normalize(id), id);
+            }
+        }
+        return new ArrayList<>(distinctIds.values());
+    }
+
+    private static Example newExample(Class<?> entityClass, String pkProperty, List<?> ids) {
+        Example example = new Example(entityClass);
+        example.createCriteria()
+            .andIn(pkProperty, ids);
+        return example;
+    }
+
+    /**
+     * 将查询结果按输入主键的顺序排列
+     *
+     * @param ids 去重后的主键
+     * @param rows 查询结果
+     * @param pkProperty 主键属性
+     * @param <K> 主键类型
+     * @param <T> 实体类型
+     * @return 输入主键到实体的映射
+     */
+    private static <K, T> Map<K, T> toOrderedMap(List<K> ids, List<T> rows, String pkProperty) {
+        Map<Object, T> rowMap = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (T row : rows) {
+            MetaObject metaObject = SystemMetaObject.forObject(row);
+            rowMap.put(PrimaryKeyUtil.normalize(metaObject.getValue(pkProperty)), row);
+        }
+        Map<K, T> result = new LinkedHashMap<>(ids.size() * 4 / 3 + 1);
+        for (K id : ids) {
+            T row = rowMap.get(PrimaryKeyUtil.normalize(id));
+            if (row != null) {
+                result.put(id, row);
+            }
+        }
+        return result;
+    }
+}
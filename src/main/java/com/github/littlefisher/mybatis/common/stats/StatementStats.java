@@ -0,0 +1,58 @@
+package com.github.littlefisher.mybatis.common.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个MappedStatement的累计统计
+ *
+ * @author jinyanan
+ * @since 2026/10/18 21:10
+ */
+class StatementStats {
+
+    private final String id;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private final LongAdder rowsReturned = new LongAdder();
+
+    private final LongAdder rowsAffected = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder slowQueries = new LongAdder();
+
+    StatementStats(String id) {
+        this.id = id;
+    }
+
+    void record(long micros, long rowsReturned, long rowsAffected, boolean error, boolean slow) {
+        histogram.record(micros);
+        if (rowsReturned > 0) {
+            this.rowsReturned.add(rowsReturned);
+        }
+        if (rowsAffected > 0) {
+            this.rowsAffected.add(rowsAffected);
+        }
+        if (error) {
+            errors.increment();
+        }
+        if (slow) {
+            slowQueries.increment();
+        }
+    }
+
+    StatementStatsSnapshot snapshot() {
+        return new StatementStatsSnapshot(id, histogram.getCount(), errors.sum(), slowQueries.sum(),
+            histogram.getSum(), histogram.getMax(), histogram.getPercentile(0.5), histogram.getPercentile(0.9),
+            histogram.getPercentile(0.99), rowsReturned.sum(), rowsAffected.sum());
+    }
+
+    void reset() {
+        histogram.reset();
+        rowsReturned.reset();
+        rowsAffected.reset();
+        errors.reset();
+        slowQueries.reset();
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.littlefisher.mybatis.common.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 按MappedStatement统计耗时、返回行数和影响行数，并记录慢查询
+ * <p/>
+ * 统计使用无锁的{@link LatencyHistogram}和{@link java.util.concurrent.atomic.LongAdder}，
+ * 执行路径上只有一次Map查找和若干原子自增。超过slowQueryThresholdMillis的语句以WARN级别输出sql，
+ * 统计可以通过{@link #getSnapshots()}获取，或通过JMX查看（默认ObjectName为{@value #DEFAULT_JMX_NAME}）。
+ * 可配置的属性:
+ * <ul>
+ * <li>slowQueryThresholdMillis: 慢查询阈值，默认1000，小于等于0时不记录</li>
+ * <li>jmxEnabled: 是否注册MXBean，默认true</li>
+ * <li>jmxName: MXBean的ObjectName，存在多个SqlSessionFactory时需要区分</li>
+ * </ul>
+ * MXBean在第一次执行语句时注册，通过代码添加的拦截器（如{@code SqlSessionFactoryBean.setPlugins}）同样生效，
+ * 也可以调用{@link #registerMBean()}提前注册。应用关闭或重新部署时调用{@link #close()}注销，
+ * 作为Spring的Bean时会自动调用
+ *
+ * @author jinyanan
+ * @since 2026/10/18 21:20
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+            BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})})
+public class StatementStatsInterceptor implements Interceptor, StatementStatsMXBean, AutoCloseable {
+
+    /** 默认的MXBean ObjectName */
+    public static final String DEFAULT_JMX_NAME = "com.github.littlefisher.mybatis:type=StatementStats";
+
+    private static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 1000;
+
+    private static final Log log = LogFactory.getLog(StatementStatsInterceptor.class);
+
+    private final ConcurrentMap<String, StatementStats> stats = new ConcurrentHashMap<>();
+
+    private volatile long slowQueryThresholdMillis = DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS;
+
+    private volatile boolean jmxEnabled = true;
+
+    private volatile String jmxName = DEFAULT_JMX_NAME;
+
+    /** 是否已经尝试注册或已关闭，之后不再注册 */
+    private volatile boolean jmxInitialized;
+
+    /** 已注册的ObjectName，未注册时为null */
+    private ObjectName registeredName;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!jmxInitialized) {
+            registerMBean();
+        }
+        Object[] args = invocation.getArgs();
+        MappedStatement ms = (MappedStatement) args[0];
+        long start = System.nanoTime();
+        Object result = null;
+        boolean error = true;
+        try {
+            result = invocation.proceed();
+            error = false;
+            return result;
+        } finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            long rowsReturned = result instanceof List ? ((List<?>) result).size() : 0;
+            // BATCH执行器返回负数的占位值
+            long rowsAffected = result instanceof Integer ? Math.max(0, (Integer) result) : 0;
+            long threshold = slowQueryThresholdMillis;
+            boolean slow = threshold > 0 && micros >= threshold * 1000;
+            StatementStats statementStats = stats.get(ms.getId());
+            if (statementStats == null) {
+                statementStats = stats.computeIfAbsent(ms.getId(), StatementStats::new);
+            }
+            statementStats.record(micros, rowsReturned, rowsAffected, error, slow);
+            if (slow) {
+                logSlowQuery(ms, args, micros, result instanceof List ? rowsReturned : rowsAffected);
+            }
+        }
+    }
+
+    private void logSlowQuery(MappedStatement ms, Object[] args, long micros, long rows) {
+        try {
+            BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+            log.warn("Slow statement " + ms.getId() + " took " + micros / 1000 + "ms, rows: " + rows + ", sql: "
+                + StringUtils.normalizeSpace(boundSql.getSql()));
+        } catch (RuntimeException e) {
+            log.warn("Slow statement " + ms.getId() + " took " + micros / 1000 + "ms, rows: " + rows);
+        }
+    }
+
+    /**
+     * 获取指定statement的统计
+     *
+     * @param msId MappedStatement id
+     * @return 统计快照，未执行过时为null
+     */
+    public StatementStatsSnapshot getSnapshot(String msId) {
+        StatementStats statementStats = stats.get(msId);
+        return statementStats == null ? null : statementStats.snapshot();
+    }
+
+    @Override
+    public List<StatementStatsSnapshot> getSnapshots() {
+        List<StatementStatsSnapshot> snapshots = new ArrayList<>(stats.size());
+        for (StatementStats statementStats : stats.values()) {
+            snapshots.add(statementStats.snapshot());
+        }
+        snapshots.sort(Comparator.comparingLong(StatementStatsSnapshot::getTotalMicros)
+            .reversed());
+        return snapshots;
+    }
+
+    @Override
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void reset() {
+        stats.values()
+            .forEach(StatementStats::reset);
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return target instanceof Executor ? Plugin.wrap(target, this) : target;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        String threshold = properties.getProperty("slowQueryThresholdMillis");
+        if (StringUtils.isNotBlank(threshold)) {
+            this.slowQueryThresholdMillis = Long.parseLong(threshold.trim());
+        }
+        this.jmxEnabled = !"false".equalsIgnoreCase(properties.getProperty("jmxEnabled"));
+        this.jmxName = properties.getProperty("jmxName", DEFAULT_JMX_NAME);
+    }
+
+    /**
+     * 注册MXBean，jmxEnabled为false、已经注册或已关闭时不做处理
+     */
+    public synchronized void registerMBean() {
+        if (jmxInitialized) {
+            return;
+        }
+        jmxInitialized = true;
+        if (!jmxEnabled) {
+            return;
+        }
+        String name = jmxName;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+            if (server.isRegistered(objectName)) {
+                log.warn("MBean " + name + " is already registered, configure jmxName to expose statement stats");
+                return;
+            }
+            server.registerMBean(this, objectName);
+            registeredName = objectName;
+        } catch (JMException e) {
+            log.warn("Register MBean " + name + " failed: " + e);
+        }
+    }
+
+    /**
+     * 注销MXBean，之后不再注册
+     */
+    @Override
+    public synchronized void close() {
+        jmxInitialized = true;
+        if (registeredName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                .unregisterMBean(registeredName);
+        } catch (JMException e) {
+            log.warn("Unregister MBean " + registeredName + " failed: " + e);
+        }
+        registeredName = null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.littlefisher.mybatis.common.stats;
+
+import java.util.List;
+
+/**
+ * {@link StatementStatsInterceptor}的JMX接口
+ *
+ * @author jinyanan
+ * @since 2026/10/18 21:18
+ */
+public interface StatementStatsMXBean {
+
+    /**
+     * 获取所有statement的统计，按总耗时倒序
+     *
+     * @return 统计快照
+     */
+    List<StatementStatsSnapshot> getSnapshots();
+
+    /**
+     * 获取慢查询阈值
+     *
+     * @return 阈值（毫秒）
+     */
+    long getSlowQueryThresholdMillis();
+
+    /**
+     * 修改慢查询阈值，小于等于0时不记录慢查询
+     *
+     * @param slowQueryThresholdMillis 阈值（毫秒）
+     */
+    void setSlowQueryThresholdMillis(long slowQueryThresholdMillis);
+
+    /**
+     * 清空统计
+     */
+    void reset();
+}
@@ -0,0 +1,55 @@
+package com.github.littlefisher.mybatis.common.stats;
+
+import lombok.Value;
+
+/**
+ * 单个MappedStatement的统计快照，耗时单位为微秒
+ *
+ * @author jinyanan
+ * @since 2026/10/18 21:15
+ */
+@Value
+public class StatementStatsSnapshot {
+
+    /** MappedStatement id */
+    String id;
+
+    /** 执行次数，包含出错的执行 */
+    long count;
+
+    /** 出错次数 */
+    long errors;
+
+    /** 超过慢查询阈值的次数 */
+    long slowQueries;
+
+    /** 总耗时 */
+    long totalMicros;
+
+    /** 最大耗时 */
+    long maxMicros;
+
+    /** 中位数耗时，为所在直方图桶的上界 */
+    long p50Micros;
+
+    /** 90分位耗时 */
+    long p90Micros;
+
+    /** 99分位耗时 */
+    long p99Micros;
+
+    /** 查询返回的总行数 */
+    long rowsReturned;
+
+    /** 写操作影响的总行数，BATCH执行器下影响行数未知，不计入 */
+    long rowsAffected;
+
+    /**
+     * 平均耗时
+     *
+     * @return 平均耗时（微秒）
+     */
+    public long getMeanMicros() {
+        return count == 0 ? 0 : totalMicros / count;
+    }
+}
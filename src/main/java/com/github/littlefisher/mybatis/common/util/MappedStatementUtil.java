@@ -0,0 +1,107 @@
+package com.github.littlefisher.mybatis.common.util;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.common.Marker;
+import tk.mybatis.mapper.entity.EntityTable;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * MappedStatement相关工具，根据statement所在的通用Mapper接口解析对应的实体和表
+ *
+ * @author jinyanan
+ * @since 2026/10/18 11:30
+ */
+public final class MappedStatementUtil {
+
+    /** namespace -> 实体类，非通用Mapper的namespace缓存为empty */
+    private static final ConcurrentMap<String, Optional<Class<?>>> ENTITY_CLASS_CACHE = new ConcurrentHashMap<>();
+
+    private MappedStatementUtil() {}
+
+    /**
+     * 获取statement的namespace，即Mapper接口全名
+     *
+     * @param msId MappedStatement id
+     * @return namespace
+     */
+    public static String getNamespace(String msId) {
+        int index = msId.lastIndexOf('.');
+        return index > 0 ? msId.substring(0, index) : msId;
+    }
+
+    /**
+     * 获取statement所在通用Mapper的实体类
+     *
+     * @param ms MappedStatement
+     * @return 实体类，非通用Mapper时为null
+     */
+    public static Class<?> getEntityClass(MappedStatement ms) {
+        return ENTITY_CLASS_CACHE.computeIfAbsent(getNamespace(ms.getId()),
+            namespace -> Optional.ofNullable(resolveEntityClass(namespace)))
+            .orElse(null);
+    }
+
+    /**
+     * 获取通用Mapper接口或其代理对象类型对应的实体类
+     *
+     * @param mapperClass Mapper接口或代理类
+     * @return 实体类，非通用Mapper时为null
+     */
+    public static Class<?> getEntityClass(Class<?> mapperClass) {
+        return findEntityClass(mapperClass);
+    }
+
+    /**
+     * 获取statement操作的表名，无法解析实体时使用namespace代替，保证同一个Mapper的读写能对应上
+     *
+     * @param ms MappedStatement
+     * @return 表名或namespace
+     */
+    public static String getTableName(MappedStatement ms) {
+        Class<?> entityClass = getEntityClass(ms);
+        if (entityClass != null) {
+            try {
+                EntityTable entityTable = EntityHelper.getEntityTable(entityClass);
+                return entityTable.getName();
+            } catch (MapperException e) {
+                // 实体尚未被通用Mapper初始化
+            }
+        }
+        return getNamespace(ms.getId());
+    }
+
+    private static Class<?> resolveEntityClass(String namespace) {
+        try {
+            return findEntityClass(Resources.classForName(namespace));
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> findEntityClass(Class<?> mapperClass) {
+        for (Type type : mapperClass.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                Type rawType = parameterizedType.getRawType();
+                Type actualType = parameterizedType.getActualTypeArguments()[0];
+                if (rawType instanceof Class && Marker.class.isAssignableFrom((Class<?>) rawType)
+                    && actualType instanceof Class) {
+                    return (Class<?>) actualType;
+                }
+            } else if (type instanceof Class) {
+                Class<?> entityClass = findEntityClass((Class<?>) type);
+                if (entityClass != null) {
+                    return entityClass;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.littlefisher.mybatis.common.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 主键相关工具，用于在内存中比较和索引主键
+ *
+ * @author jinyanan
+ * @since 2026/10/18 18:10
+ */
+public final class PrimaryKeyUtil {
+
+    private PrimaryKeyUtil() {}
+
+    /**
+     * 整数类型的主键统一转换为Long，使不同整数类型的主键可以互相匹配
+     *
+     * @param key 主键
+     * @return 用于比较的主键
+     */
+    public static Object normalize(Object key) {
+        if (key instanceof Number && !(key instanceof BigDecimal) && !(key instanceof BigInteger)
+            && !(key instanceof Double) && !(key instanceof Float)) {
+            return ((Number) key).longValue();
+        }
+        return key;
+    }
+
+    /**
+     * 获取实体的主键
+     *
+     * @param entityClass 实体类
+     * @param entity 实体
+     * @return 单列主键时为{@link #normalize(Object)}后的主键值，联合主键时为各列值的列表，主键有null值时返回null
+     */
+    public static Object getPrimaryKey(Class<?> entityClass, Object entity) {
+        Set<EntityColumn> pkColumns = EntityHelper.getPKColumns(entityClass);
+        if (pkColumns.isEmpty()) {
+            return null;
+        }
+        MetaObject metaObject = SystemMetaObject.forObject(entity);
+        List<Object> values = new ArrayList<>(pkColumns.size());
+        for (EntityColumn column : pkColumns) {
+            Object value = metaObject.getValue(column.getProperty());
+            if (value == null) {
+                return null;
+            }
+            values.add(normalize(value));
+        }
+        return values.size() == 1 ? values.get(0) : values;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.littlefisher.mybatis.common.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+/**
+ * 在Spring事务真正结束后执行回调，不依赖spring-tx，运行时没有Spring或没有活动的事务同步时不注册
+ * <p/>
+ * mybatis-spring在事务的beforeCommit/beforeCompletion阶段调用SqlSession的commit和close，此时数据库事务尚未提交，
+ * 需要在afterCompletion中再处理一次
+ *
+ * @author jinyanan
+ * @since 2026/10/18 18:30
+ */
+public final class SpringTransactionHook {
+
+    private static final Log log = LogFactory.getLog(SpringTransactionHook.class);
+
+    private static final String SYNCHRONIZATION_MANAGER =
+        "org.springframework.transaction.support.TransactionSynchronizationManager";
+
+    private static final String SYNCHRONIZATION = "org.springframework.transaction.support.TransactionSynchronization";
+
+    /** 与Ordered.LOWEST_PRECEDENCE一致 */
+    private static final int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
+
+    private static final Support SUPPORT = Support.load();
+
+    private SpringTransactionHook() {}
+
+    /**
+     * 当前线程存在Spring事务同步时，在事务提交或回滚后执行回调
+     *
+     * @param callback 回调
+     * @return 是否已注册
+     */
+    public static boolean afterCompletion(Runnable callback) {
+        return SUPPORT != null && SUPPORT.register(callback);
+    }
+
+    /**
+     * 反射获取的Spring事务同步方法
+     */
+    private static class Support {
+
+        private final Class<?> synchronizationClass;
+
+        private final Method isSynchronizationActive;
+
+        private final Method registerSynchronization;
+
+        private Support(Class<?> synchronizationClass, Method isSynchronizationActive,
+            Method registerSynchronization) {
+            this.synchronizationClass = synchronizationClass;
+            this.isSynchronizationActive = isSynchronizationActive;
+            this.registerSynchronization = registerSynchronization;
+        }
+
+        static Support load() {
+            try {
+                ClassLoader classLoader = SpringTransactionHook.class.getClassLoader();
+                Class<?> managerClass = Class.forName(SYNCHRONIZATION_MANAGER, true, classLoader);
+                Class<?> synchronizationClass = Class.forName(SYNCHRONIZATION, true, classLoader);
+                return new Support(synchronizationClass, managerClass.getMethod("isSynchronizationActive"),
+                    managerClass.getMethod("registerSynchronization", synchronizationClass));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+
+        boolean register(Runnable callback) {
+            try {
+                if (!Boolean.TRUE.equals(isSynchronizationActive.invoke(null))) {
+                    return false;
+                }
+                Object synchronization = Proxy.newProxyInstance(synchronizationClass.getClassLoader(),
+                    new Class<?>[] {synchronizationClass}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "afterCompletion":
+                                callback.run();
+                                return null;
+                            case "getOrder":
+                                return LOWEST_PRECEDENCE;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "toString":
+                                return SpringTransactionHook.class.getSimpleName() + "@" + Integer.toHexString(
+                                    System.identityHashCode(proxy));
+                            default:
+                                return null;
+                        }
+                    });
+                registerSynchronization.invoke(null, synchronization);
+                return true;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug("Register transaction synchronization failed: " + e);
+                return false;
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.littlefisher.mybatis.generator;
 
+import com.github.littlefisher.mybatis.common.genid.ClientIdStrategy;
+import com.github.littlefisher.mybatis.generator.plugins.constants.PropertiesConstant;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Properties;
@@ -37,6 +39,9 @@ public class BlogCommentGenerator implements CommentGenerator {
     /** author */
     private String author = "LittleFisher";
 
+    /** 自增、序列主键使用的客户端主键生成策略，未配置时使用数据库生成 */
+    private ClientIdStrategy clientIdStrategy;
+
     public BlogCommentGenerator() {
         super();
         properties = new Properties();
@@ -74,6 +79,25 @@ public class BlogCommentGenerator implements CommentGenerator {
 
     }
 
+    /**
+     * 获取字段上@Column注解的列名
+     *
+     * @param introspectedTable 表信息
+     * @param introspectedColumn 列信息
+     * @return 列名，列名与属性名相同不需要@Column注解时为null
+     */
+    public static String getColumnAnnotationName(IntrospectedTable introspectedTable,
+        IntrospectedColumn introspectedColumn) {
+        String column = introspectedColumn.getActualColumnName();
+        if (StringUtility.stringContainsSpace(column) || introspectedTable.getTableConfiguration()
+            .isAllColumnDelimitingEnabled()) {
+            column = introspectedColumn.getContext()
+                .getBeginningDelimiter() + column + introspectedColumn.getContext()
+                .getEndingDelimiter();
+        }
+        return column.equals(introspectedColumn.getJavaProperty()) ? null : column;
+    }
+
     /**
      * 对实体bean中各个字段(仅数据库中的字段)field增加注释
      */
@@ -101,19 +125,20 @@ public class BlogCommentGenerator implements CommentGenerator {
             field.addAnnotation("@Id");
         }
         // 对数据库字段增加@Column注解，该注解用于解决字段名和数据库字段名不同时的映射问题
-        String column = introspectedColumn.getActualColumnName();
-        if (StringUtility.stringContainsSpace(column) || introspectedTable.getTableConfiguration()
-            .isAllColumnDelimitingEnabled()) {
-            column = introspectedColumn.getContext()
-                .getBeginningDelimiter() + column + introspectedColumn.getContext()
-                .getEndingDelimiter();
-        }
-        if (!column.equals(introspectedColumn.getJavaProperty())) {
+        String column = getColumnAnnotationName(introspectedTable, introspectedColumn);
+        if (column != null) {
             // @Column
             field.addAnnotation("@Column(name = \"" + getDelimiterName(column) + "\")");
         }
-        // 自增字段根据不同的数据库，添加不同的@GeneratedValue注解
-        if (introspectedColumn.isIdentity()) {
+        // 配置了客户端主键生成策略时，Long类型的自增、序列主键在插入前由应用生成
+        if (clientIdStrategy != null && (introspectedColumn.isIdentity() || introspectedColumn.isSequenceColumn())
+            && Long.class.getName()
+            .equals(introspectedColumn.getFullyQualifiedJavaType()
+                .getFullyQualifiedName())) {
+            field.addAnnotation("@KeySql(genId = " + clientIdStrategy.getGenIdClass()
+                .getSimpleName() + ".class)");
+        } else if (introspectedColumn.isIdentity()) {
+            // 自增字段根据不同的数据库，添加不同的@GeneratedValue注解
             if (jdbc.equals(introspectedTable.getTableConfiguration()
                 .getGeneratedKey()
                 .getRuntimeSqlStatement())) {
@@ -156,6 +181,7 @@ public class BlogCommentGenerator implements CommentGenerator {
         if (StringUtility.stringHasValue(authorString)) {
             author = authorString;
         }
+        clientIdStrategy = ClientIdStrategy.of(properties.getProperty(PropertiesConstant.CLIENT_ID_STRATEGY));
     }
 
     @Override
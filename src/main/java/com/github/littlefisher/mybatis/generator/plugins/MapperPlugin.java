@@ -1,16 +1,28 @@
 package com.github.littlefisher.mybatis.generator.plugins;
 
+import com.github.littlefisher.mybatis.common.cache.EntityCache;
+import com.github.littlefisher.mybatis.common.genid.ClientIdStrategy;
+import com.github.littlefisher.mybatis.common.mapping.EntityRowMapper;
+import com.github.littlefisher.mybatis.common.meta.ColumnMetadata;
+import com.github.littlefisher.mybatis.common.meta.EntityMetadata;
 import com.github.littlefisher.mybatis.generator.BlogCommentGenerator;
 import com.github.littlefisher.mybatis.generator.plugins.constants.PropertiesConstant;
 import com.github.littlefisher.mybatis.generator.plugins.example.AdditionalExampleGenerator;
 import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.Column;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -20,19 +32,25 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.type.JdbcType;
+import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
 import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
 import org.mybatis.generator.api.dom.java.TopLevelClass;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.config.CommentGeneratorConfiguration;
 import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.internal.util.StringUtility;
 import tk.mybatis.mapper.MapperException;
 import tk.mybatis.mapper.annotation.ColumnType;
+import tk.mybatis.mapper.annotation.KeySql;
 
 /**
  * @author jinyanan
@@ -93,6 +111,57 @@ public class MapperPlugin extends PluginAdapter {
      */
     private boolean modelExampleLikeAdditionEnabled = true;
 
+    /**
+     * 开启本地主键缓存的表
+     */
+    private Set<String> entityCacheTables = Sets.newHashSet();
+
+    /**
+     * 所有表
+     */
+    private static final String ALL_TABLES = "*";
+
+    /**
+     * 是否为实体生成EntityMetadata元数据类
+     */
+    private boolean entityMetadataEnabled = false;
+
+    /**
+     * 自增、序列主键使用的客户端主键生成策略
+     */
+    private ClientIdStrategy clientIdStrategy;
+
+    /**
+     * 是否为实体生成EntityRowMapper行映射类
+     */
+    private boolean entityRowMapperEnabled = false;
+
+    /**
+     * 行映射支持的字段类型，java类型 -> {读取的类型, ResultSet getter, 赋值表达式, 非null判断}，
+     * 日期转换与MyBatis默认的TypeHandler保持一致
+     */
+    private static final Map<String, String[]> RESULT_SET_GETTERS = ImmutableMap.<String, String[]>builder()
+        .put("java.lang.String", new String[] {"String", "getString", "value", "value != null"})
+        .put("java.lang.Integer", new String[] {"int", "getInt", "value", "!rs.wasNull()"})
+        .put("java.lang.Long", new String[] {"long", "getLong", "value", "!rs.wasNull()"})
+        .put("java.lang.Short", new String[] {"short", "getShort", "value", "!rs.wasNull()"})
+        .put("java.lang.Byte", new String[] {"byte", "getByte", "value", "!rs.wasNull()"})
+        .put("java.lang.Boolean", new String[] {"boolean", "getBoolean", "value", "!rs.wasNull()"})
+        .put("java.lang.Double", new String[] {"double", "getDouble", "value", "!rs.wasNull()"})
+        .put("java.lang.Float", new String[] {"float", "getFloat", "value", "!rs.wasNull()"})
+        .put("java.math.BigDecimal", new String[] {"java.math.BigDecimal", "getBigDecimal", "value", "value != null"})
+        .put("byte[]", new String[] {"byte[]", "getBytes", "value", "value != null"})
+        .put("java.util.Date",
+            new String[] {"java.sql.Timestamp", "getTimestamp", "new java.util.Date(value.getTime())", "value != null"})
+        .put("java.sql.Timestamp", new String[] {"java.sql.Timestamp", "getTimestamp", "value", "value != null"})
+        .put("java.sql.Date", new String[] {"java.sql.Date", "getDate", "value", "value != null"})
+        .put("java.sql.Time", new String[] {"java.sql.Time", "getTime", "value", "value != null"})
+        .put("java.time.LocalDateTime",
+            new String[] {"java.sql.Timestamp", "getTimestamp", "value.toLocalDateTime()", "value != null"})
+        .put("java.time.LocalDate", new String[] {"java.sql.Date", "getDate", "value.toLocalDate()", "value != null"})
+        .put("java.time.LocalTime", new String[] {"java.sql.Time", "getTime", "value.toLocalTime()", "value != null"})
+        .build();
+
     @Override
     public void setContext(Context context) {
         super.setContext(context);
@@ -144,6 +213,23 @@ public class MapperPlugin extends PluginAdapter {
         if (StringUtility.stringHasValue(modelExampleLikeAdditionEnabled)) {
             this.modelExampleLikeAdditionEnabled = TRUE.equals(modelExampleLikeAdditionEnabled);
         }
+        String entityCacheTables = this.properties.getProperty(PropertiesConstant.ENTITY_CACHE_TABLES);
+        if (StringUtility.stringHasValue(entityCacheTables)) {
+            Splitter.on(',')
+                .trimResults()
+                .omitEmptyStrings()
+                .splitToList(entityCacheTables)
+                .forEach(table -> this.entityCacheTables.add(table.toLowerCase()));
+        }
+        String entityMetadataEnabled = this.properties.getProperty(PropertiesConstant.ENTITY_METADATA_ENABLED);
+        if (StringUtility.stringHasValue(entityMetadataEnabled)) {
+            this.entityMetadataEnabled = TRUE.equalsIgnoreCase(entityMetadataEnabled);
+        }
+        String entityRowMapperEnabled = this.properties.getProperty(PropertiesConstant.ENTITY_ROW_MAPPER_ENABLED);
+        if (StringUtility.stringHasValue(entityRowMapperEnabled)) {
+            this.entityRowMapperEnabled = TRUE.equalsIgnoreCase(entityRowMapperEnabled);
+        }
+        clientIdStrategy = ClientIdStrategy.of(this.properties.getProperty(PropertiesConstant.CLIENT_ID_STRATEGY));
         currentDateStr = new SimpleDateFormat("yyyy年MM月dd日").format(new Date());
     }
 
@@ -209,6 +295,8 @@ public class MapperPlugin extends PluginAdapter {
         importClassTableAnnotation(topLevelClass, introspectedTable);
         // 导入lombok中@Data注解
         importClassLombokAnnotation(topLevelClass);
+        // 本地主键缓存
+        importClassEntityCacheAnnotation(topLevelClass, introspectedTable);
         // 引入JPA注解
         importFieldAnnotation(topLevelClass, Column.class);
         // 判断是否有@GeneratedValue注解的字段
@@ -219,6 +307,10 @@ public class MapperPlugin extends PluginAdapter {
         importFieldAnnotation(topLevelClass, Transient.class);
         // 导入列类型
         importFieldAnnotation(topLevelClass, ColumnType.class, JdbcType.class);
+        // 导入客户端主键生成策略
+        if (clientIdStrategy != null) {
+            importFieldAnnotation(topLevelClass, KeySql.class, clientIdStrategy.getGenIdClass());
+        }
 
         // 构造Builder内部类
         addBuilderInnerClass(topLevelClass, introspectedTable);
@@ -258,19 +350,49 @@ public class MapperPlugin extends PluginAdapter {
     private void importClassTableAnnotation(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         // 引入JPA注解
         topLevelClass.addImportedType("javax.persistence.Table");
+        String tableName = getTableAnnotationName(topLevelClass.getType().getShortName(), introspectedTable);
+        if (tableName != null) {
+            topLevelClass.addAnnotation("@Table(name = \"" + tableName + "\")");
+        }
+    }
+
+    /**
+     * 获取实体类上@Table注解的表名
+     *
+     * @param shortName 实体类名
+     * @param introspectedTable introspectedTable
+     * @return 表名，不需要@Table注解时为null
+     */
+    private String getTableAnnotationName(String shortName, IntrospectedTable introspectedTable) {
         String tableName = introspectedTable.getFullyQualifiedTableNameAtRuntime();
         // 如果包含空格，或者需要分隔符，需要完善
         if (StringUtility.stringContainsSpace(tableName)) {
             tableName = context.getBeginningDelimiter() + tableName + context.getEndingDelimiter();
         }
         // 是否忽略大小写，对于区分大小写的数据库，会有用
-        if (caseSensitive && !topLevelClass.getType().getShortName().equals(tableName)) {
-            topLevelClass.addAnnotation("@Table(name = \"" + getDelimiterName(tableName) + "\")");
-        } else if (!topLevelClass.getType().getShortName().equalsIgnoreCase(tableName)) {
-            topLevelClass.addAnnotation("@Table(name = \"" + getDelimiterName(tableName) + "\")");
+        if (caseSensitive && !shortName.equals(tableName)) {
+            return getDelimiterName(tableName);
+        } else if (!shortName.equalsIgnoreCase(tableName)) {
+            return getDelimiterName(tableName);
         } else if (StringUtility.stringHasValue(schema) || StringUtility.stringHasValue(beginningDelimiter)
             || StringUtility.stringHasValue(endingDelimiter)) {
-            topLevelClass.addAnnotation("@Table(name = \"" + getDelimiterName(tableName) + "\")");
+            return getDelimiterName(tableName);
+        }
+        return null;
+    }
+
+    /**
+     * 配置了entityCacheTables的表添加@EntityCache注解
+     *
+     * @param topLevelClass topLevelClass
+     * @param introspectedTable introspectedTable
+     */
+    private void importClassEntityCacheAnnotation(TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+        String tableName = introspectedTable.getFullyQualifiedTable()
+            .getIntrospectedTableName();
+        if (entityCacheTables.contains(ALL_TABLES) || entityCacheTables.contains(tableName.toLowerCase())) {
+            topLevelClass.addImportedType(EntityCache.class.getCanonicalName());
+            topLevelClass.addAnnotation("@" + EntityCache.class.getSimpleName());
         }
     }
 
@@ -346,6 +468,225 @@ public class MapperPlugin extends PluginAdapter {
         return true;
     }
 
+    /**
+     * 生成实体元数据类 XxxMetadata 和行映射类 XxxRowMapper
+     * <p/>
+     * 只处理所有字段都在同一个实体类中的情况，存在主键类、BLOB类或rootClass时，实体字段不完全由当前表决定，
+     * 此时不生成，由运行时反射解析
+     */
+    @Override
+    public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(IntrospectedTable introspectedTable) {
+        if (!entityMetadataEnabled && !entityRowMapperEnabled || introspectedTable.getRules().generatePrimaryKeyClass()
+            || introspectedTable.getRules().generateRecordWithBLOBsClass()
+            || StringUtility.stringHasValue(introspectedTable.getTableConfigurationProperty(
+            PropertyRegistry.ANY_ROOT_CLASS)) || StringUtility.stringHasValue(
+            context.getJavaModelGeneratorConfiguration().getProperty(PropertyRegistry.ANY_ROOT_CLASS))) {
+            return Collections.emptyList();
+        }
+        List<GeneratedJavaFile> generatedJavaFiles = new ArrayList<>();
+        if (entityMetadataEnabled) {
+            generatedJavaFiles.add(toGeneratedJavaFile(generateEntityMetadataClass(introspectedTable)));
+        }
+        if (entityRowMapperEnabled) {
+            TopLevelClass rowMapperClass = generateEntityRowMapperClass(introspectedTable);
+            if (rowMapperClass != null) {
+                generatedJavaFiles.add(toGeneratedJavaFile(rowMapperClass));
+            }
+        }
+        return generatedJavaFiles;
+    }
+
+    /**
+     * 生成实体元数据类
+     *
+     * @param introspectedTable introspectedTable
+     * @return 元数据类
+     */
+    private TopLevelClass generateEntityMetadataClass(IntrospectedTable introspectedTable) {
+        FullyQualifiedJavaType entityType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        TopLevelClass metadataClass = new TopLevelClass(
+            introspectedTable.getBaseRecordType() + EntityMetadata.CLASS_SUFFIX);
+        metadataClass.setVisibility(JavaVisibility.PUBLIC);
+        metadataClass.setSuperClass(new FullyQualifiedJavaType(EntityMetadata.class.getCanonicalName()));
+        metadataClass.addImportedType(EntityMetadata.class.getCanonicalName());
+        metadataClass.addImportedType(ColumnMetadata.class.getCanonicalName());
+
+        Method constructor = new Method(metadataClass.getType().getShortName());
+        constructor.setConstructor(true);
+        constructor.setVisibility(JavaVisibility.PUBLIC);
+        constructor.addBodyLine("super(" + entityType.getShortName() + ".class, "
+            + toJavaString(getTableAnnotationName(entityType.getShortName(), introspectedTable)) + ",");
+        List<IntrospectedColumn> columns = introspectedTable.getAllColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            IntrospectedColumn column = columns.get(i);
+            String jdbcType = "null";
+            if (column.isBLOBColumn()) {
+                metadataClass.addImportedType(JdbcType.class.getCanonicalName());
+                jdbcType = "JdbcType." + JdbcType.forCode(column.getJdbcType()).name();
+            }
+            boolean id = introspectedTable.getPrimaryKeyColumns().stream().anyMatch(pk -> pk == column);
+            boolean keyGenerated = column.isIdentity() || column.isSequenceColumn();
+            constructor.addBodyLine("    new " + ColumnMetadata.class.getSimpleName() + "("
+                + toJavaString(column.getJavaProperty()) + ", "
+                + toJavaString(BlogCommentGenerator.getColumnAnnotationName(introspectedTable, column)) + ", "
+                + id + ", " + keyGenerated + ", " + jdbcType + ")" + (i < columns.size() - 1 ? "," : ");"));
+        }
+        metadataClass.addMethod(constructor);
+
+        addGeneratedClassJavaDoc(metadataClass, introspectedTable,
+            "实体元数据，与" + entityType.getShortName() + "上的注解保持一致");
+        return metadataClass;
+    }
+
+    /**
+     * 生成实体行映射类，按列下标调用对应类型的getter读取结果集
+     *
+     * @param introspectedTable introspectedTable
+     * @return 行映射类，存在不支持的字段类型时为null
+     */
+    private TopLevelClass generateEntityRowMapperClass(IntrospectedTable introspectedTable) {
+        List<IntrospectedColumn> columns = introspectedTable.getAllColumns();
+        if (columns.stream().anyMatch(column -> !RESULT_SET_GETTERS.containsKey(
+            column.getFullyQualifiedJavaType().getFullyQualifiedName()))) {
+            return null;
+        }
+        FullyQualifiedJavaType entityType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        String entityName = entityType.getShortName();
+        TopLevelClass rowMapperClass = new TopLevelClass(
+            introspectedTable.getBaseRecordType() + EntityRowMapper.CLASS_SUFFIX);
+        rowMapperClass.setVisibility(JavaVisibility.PUBLIC);
+        rowMapperClass.addImportedType(EntityRowMapper.class.getCanonicalName());
+        rowMapperClass.addImportedType(ResultSet.class.getCanonicalName());
+        rowMapperClass.addImportedType(SQLException.class.getCanonicalName());
+        rowMapperClass.addSuperInterface(
+            new FullyQualifiedJavaType(EntityRowMapper.class.getCanonicalName() + "<" + entityName + ">"));
+
+        FullyQualifiedJavaType stringArrayType = new FullyQualifiedJavaType("String[]");
+        rowMapperClass.addField(newConstantField("PROPERTIES", stringArrayType, columns.stream()
+            .map(column -> toJavaString(column.getJavaProperty()))
+            .collect(Collectors.joining(", ", "{", "}"))));
+        rowMapperClass.addField(newConstantField("COLUMNS", stringArrayType, columns.stream()
+            .map(column -> toJavaString(column.getActualColumnName()))
+            .collect(Collectors.joining(", ", "{", "}"))));
+
+        Method getEntityClass = newOverrideMethod("getEntityClass",
+            new FullyQualifiedJavaType("Class<" + entityName + ">"));
+        getEntityClass.addBodyLine("return " + entityName + ".class;");
+        rowMapperClass.addMethod(getEntityClass);
+        Method getProperties = newOverrideMethod("getProperties", stringArrayType);
+        getProperties.addBodyLine("return PROPERTIES;");
+        rowMapperClass.addMethod(getProperties);
+        Method getColumns = newOverrideMethod("getColumns", stringArrayType);
+        getColumns.addBodyLine("return COLUMNS;");
+        rowMapperClass.addMethod(getColumns);
+        Method newInstance = newOverrideMethod("newInstance", entityType);
+        newInstance.addBodyLine("return new " + entityName + "();");
+        rowMapperClass.addMethod(newInstance);
+
+        Method mapRow = newOverrideMethod("mapRow", FullyQualifiedJavaType.getBooleanPrimitiveInstance());
+        mapRow.addParameter(new Parameter(new FullyQualifiedJavaType(ResultSet.class.getSimpleName()), "rs"));
+        mapRow.addParameter(new Parameter(new FullyQualifiedJavaType("int[]"), "indexes"));
+        mapRow.addParameter(new Parameter(entityType, "row"));
+        mapRow.addException(new FullyQualifiedJavaType(SQLException.class.getSimpleName()));
+        mapRow.addBodyLine("boolean found = false;");
+        mapRow.addBodyLine("int index;");
+        for (int i = 0; i < columns.size(); i++) {
+            IntrospectedColumn column = columns.get(i);
+            String[] getter = RESULT_SET_GETTERS.get(column.getFullyQualifiedJavaType().getFullyQualifiedName());
+            String property = column.getJavaProperty();
+            // 实体的setter由lombok生成，首字母总是大写
+            String setter = "set" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            mapRow.addBodyLine("if ((index = indexes[" + i + "]) > 0) {");
+            mapRow.addBodyLine(getter[0] + " value = rs." + getter[1] + "(index);");
+            mapRow.addBodyLine("if (" + getter[3] + ") {");
+            mapRow.addBodyLine("row." + setter + "(" + getter[2] + ");");
+            mapRow.addBodyLine("found = true;");
+            mapRow.addBodyLine("}");
+            mapRow.addBodyLine("}");
+        }
+        mapRow.addBodyLine("return found;");
+        rowMapperClass.addMethod(mapRow);
+
+        addGeneratedClassJavaDoc(rowMapperClass, introspectedTable, "行映射，按列下标读取结果集，不经过反射");
+        return rowMapperClass;
+    }
+
+    /**
+     * 创建private static final常量
+     *
+     * @param name 常量名
+     * @param type 类型
+     * @param initializationString 初始值
+     * @return 常量
+     */
+    private static Field newConstantField(String name, FullyQualifiedJavaType type, String initializationString) {
+        Field field = new Field(name, type);
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setStatic(true);
+        field.setFinal(true);
+        field.setInitializationString(initializationString);
+        return field;
+    }
+
+    /**
+     * 创建带@Override注解的public方法
+     *
+     * @param name 方法名
+     * @param returnType 返回类型
+     * @return 方法
+     */
+    private static Method newOverrideMethod(String name, FullyQualifiedJavaType returnType) {
+        Method method = new Method(name);
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(returnType);
+        method.addAnnotation("@Override");
+        return method;
+    }
+
+    /**
+     * 为生成的附加类添加注释
+     *
+     * @param topLevelClass 类信息
+     * @param introspectedTable 表信息
+     * @param description 类说明
+     */
+    private void addGeneratedClassJavaDoc(TopLevelClass topLevelClass, IntrospectedTable introspectedTable,
+        String description) {
+        topLevelClass.addJavaDocLine("/**");
+        topLevelClass.addJavaDocLine(" *");
+        topLevelClass.addJavaDocLine(" * " + introspectedTable.getFullyQualifiedTable() + " " + description + "<br>");
+        topLevelClass.addJavaDocLine(" *");
+        topLevelClass.addJavaDocLine(" * Created on " + currentDateStr);
+        topLevelClass.addJavaDocLine(" * @author " + author);
+        topLevelClass.addJavaDocLine(" * @version 2.1");
+        topLevelClass.addJavaDocLine(" * @since v2.1");
+        topLevelClass.addJavaDocLine(" */");
+    }
+
+    /**
+     * 生成与实体同一目录的java文件
+     *
+     * @param topLevelClass 类信息
+     * @return java文件
+     */
+    private GeneratedJavaFile toGeneratedJavaFile(TopLevelClass topLevelClass) {
+        return new GeneratedJavaFile(topLevelClass, context.getJavaModelGeneratorConfiguration().getTargetProject(),
+            context.getProperty(PropertyRegistry.CONTEXT_JAVA_FILE_ENCODING), context.getJavaFormatter());
+    }
+
+    /**
+     * 转换为java字符串字面量
+     *
+     * @param value 字符串
+     * @return 字面量，null时为null
+     */
+    private static String toJavaString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     @Override
     public boolean modelGetterMethodGenerated(Method method, TopLevelClass topLevelClass,
         IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable, ModelClassType modelClassType) {
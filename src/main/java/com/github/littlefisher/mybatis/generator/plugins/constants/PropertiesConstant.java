@@ -45,4 +45,24 @@ public class PropertiesConstant {
      * 是否对example中的like做补充，对参数左右添加%号
      */
     public static final String MODEL_EXAMPLE_LIKE_ADDITION_ENABLED = "modelExampleLikeAdditionEnabled";
+
+    /**
+     * 开启本地主键缓存的表，多个用逗号分隔，*表示所有表，生成的实体会带上@EntityCache注解
+     */
+    public static final String ENTITY_CACHE_TABLES = "entityCacheTables";
+
+    /**
+     * 是否为实体生成XxxMetadata元数据类，配合GeneratedEntityResolve使用，默认不生成
+     */
+    public static final String ENTITY_METADATA_ENABLED = "entityMetadataEnabled";
+
+    /**
+     * 是否为实体生成XxxRowMapper行映射类，配合EntityRowMapperInterceptor使用，默认不生成
+     */
+    public static final String ENTITY_ROW_MAPPER_ENABLED = "entityRowMapperEnabled";
+
+    /**
+     * 自增、序列主键改为在客户端生成，可选snowflake、hilo，只对Long类型的主键生效，生成@KeySql(genId = ...)注解
+     */
+    public static final String CLIENT_ID_STRATEGY = "clientIdStrategy";
 }
@@ -0,0 +1,60 @@
+package com.github.littlefisher.mybatis.pagehelper;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * 延迟转换的只读list视图，元素在第一次访问时才调用function转换，转换结果会被缓存
+ * <p/>
+ * 序列化时写出转换后的ArrayList，不要求function可序列化。非线程安全，并发访问同一元素可能重复转换
+ *
+ * @param <F> 原元素类型
+ * @param <T> 转换后的元素类型
+ * @author jinyanan
+ * @since 2026/10/18 14:40
+ */
+class LazyMappedList<F, T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 未转换标记，用于区分转换结果为null的元素 */
+    private static final Object NOT_CONVERTED = new Object();
+
+    private final List<F> source;
+
+    private final Function<? super F, ? extends T> function;
+
+    private final Object[] converted;
+
+    LazyMappedList(List<F> source, Function<? super F, ? extends T> function) {
+        this.source = source;
+        this.function = function;
+        this.converted = new Object[source.size()];
+        Arrays.fill(this.converted, NOT_CONVERTED);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object value = converted[index];
+        if (value == NOT_CONVERTED) {
+            value = function.apply(source.get(index));
+            converted[index] = value;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public int size() {
+        return converted.length;
+    }
+
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.littlefisher.mybatis.pagehelper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * 分页相关后台查询使用的默认线程池
+ *
+ * @author jinyanan
+ * @since 2026/10/18 15:10
+ */
+public final class PageExecutors {
+
+    private PageExecutors() {}
+
+    /**
+     * 获取默认线程池，运行在JDK21以上时使用虚拟线程，否则使用守护线程的缓存线程池
+     *
+     * @return 线程池
+     */
+    public static Executor getDefaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * 延迟初始化
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("page-worker-%d")
+                    .setDaemon(true)
+                    .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.littlefisher.mybatis.pagehelper;
+
+/**
+ * {@link PageIterator}每取到一页数据时的回调，用于汇报进度
+ *
+ * @author jinyanan
+ * @since 2026/10/18 15:15
+ */
+@FunctionalInterface
+public interface PageFetchListener {
+
+    /**
+     * 一页数据已交给调用方处理
+     *
+     * @param pageNum 页码
+     * @param size 该页的数量
+     * @param fetchedRows 累计已取到的行数
+     */
+    void onPageFetched(int pageNum, int size, long fetchedRows);
+}
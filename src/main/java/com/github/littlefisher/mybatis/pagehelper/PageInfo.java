@@ -1,5 +1,6 @@
 package com.github.littlefisher.mybatis.pagehelper;
 
+import com.github.littlefisher.mybatis.pagehelper.count.PageCountInfo;
 import com.github.pagehelper.Page;
 import java.io.Serializable;
 import java.util.Collection;
@@ -19,6 +20,8 @@ import org.apache.commons.collections4.CollectionUtils;
  */
 public class PageInfo<T> implements Serializable {
     private static final long serialVersionUID = 1L;
+    /** 并行转换的最小元素数量 */
+    private static final int PARALLEL_TRANSFORM_THRESHOLD = 256;
     /** 当前页 */
     private int pageNum;
     /** 每页的数量 */
@@ -58,6 +61,14 @@ public class PageInfo<T> implements Serializable {
     private int navigateFirstPage;
     /** 导航条上的最后一页 */
     private int navigateLastPage;
+    /** 是否未查询总记录数，为true时total和pages为-1，是否有下一页由多查询的一行判断 */
+    private boolean totalUnknown = false;
+    /** 总记录数是否为数据库估算值 */
+    private boolean approximate = false;
+    /** 总记录数是否来自count缓存 */
+    private boolean totalFromCache = false;
+    /** 总记录数距离实际count的时长（毫秒），仅totalFromCache时有值 */
+    private long totalAgeMillis;
 
     public PageInfo() {}
 
@@ -78,11 +89,35 @@ public class PageInfo<T> implements Serializable {
      * @param <F> 泛型
      */
     public <F> PageInfo(PageInfo<F> pageInfo, final Function<? super F, ? extends T> function) {
+        this(pageInfo, function, TransformMode.EAGER);
+    }
+
+    /**
+     * 对{@link PageInfo#list}进行转换，转换方式使用function，按mode决定立即、延迟或并行转换
+     *
+     * @param pageInfo 原pageInfo，用于提取除list以外的所有信息
+     * @param function 转换逻辑
+     * @param mode 转换方式
+     * @param <F> 泛型
+     */
+    public <F> PageInfo(PageInfo<F> pageInfo, final Function<? super F, ? extends T> function, TransformMode mode) {
         setPageInfoFields(pageInfo);
-        this.setList(pageInfo.getList()
-            .stream()
-            .map(function)
-            .collect(Collectors.toList()));
+        List<F> source = pageInfo.getList();
+        if (source == null) {
+            return;
+        }
+        if (mode == TransformMode.LAZY) {
+            this.setList(new LazyMappedList<>(source, function));
+        } else if (mode == TransformMode.PARALLEL && source.size() >= PARALLEL_TRANSFORM_THRESHOLD) {
+            // 元素较少时并行的开销大于收益，按EAGER处理
+            this.setList(source.parallelStream()
+                .map(function)
+                .collect(Collectors.toList()));
+        } else {
+            this.setList(source.stream()
+                .map(function)
+                .collect(Collectors.toList()));
+        }
     }
 
     /**
@@ -121,6 +156,10 @@ public class PageInfo<T> implements Serializable {
         this.setNavigatePageNums(pageInfo.getNavigatePageNums());
         this.setNavigateFirstPage(pageInfo.getNavigateFirstPage());
         this.setNavigateLastPage(pageInfo.getNavigateLastPage());
+        this.setTotalUnknown(pageInfo.isTotalUnknown());
+        this.setApproximate(pageInfo.isApproximate());
+        this.setTotalFromCache(pageInfo.isTotalFromCache());
+        this.setTotalAgeMillis(pageInfo.getTotalAgeMillis());
     }
 
     /**
@@ -148,6 +187,16 @@ public class PageInfo<T> implements Serializable {
                 // 计算实际的endRow（最后一页的时候特殊）
                 this.endRow = this.startRow - 1 + this.size;
             }
+            PageCountInfo countInfo = PageCountInfo.of(page);
+            if (countInfo != null && countInfo.isFromCache()) {
+                this.totalFromCache = true;
+                this.totalAgeMillis = System.currentTimeMillis() - countInfo.getCountedAt();
+            }
+            if (countInfo != null && countInfo.isApproximate()) {
+                this.approximate = true;
+                // 修正估算总数
+                correctApproximateTotal();
+            }
         } else if (list instanceof Collection) {
             this.pageNum = 1;
             this.pageSize = list.size();
@@ -170,6 +219,61 @@ public class PageInfo<T> implements Serializable {
         }
     }
 
+    /**
+     * 包装未查询总记录数的分页结果
+     * <p/>
+     * total和pages为-1，导航页以当前已知的最后一页（有下一页时为pageNum + 1）计算
+     *
+     * @param list 当前页结果，不包含用于判断下一页多查询的那一行
+     * @param pageNum 当前页
+     * @param pageSize 每页的数量
+     * @param hasNextPage 是否有下一页
+     * @param navigatePages 页码数量
+     * @param <T> 泛型
+     * @return pageInfo
+     */
+    public static <T> PageInfo<T> ofUnknownTotal(List<T> list, int pageNum, int pageSize, boolean hasNextPage,
+        int navigatePages) {
+        PageInfo<T> pageInfo = new PageInfo<>();
+        pageInfo.pageNum = pageNum;
+        pageInfo.pageSize = pageSize;
+        pageInfo.list = list;
+        pageInfo.size = list.size();
+        if (pageInfo.size == 0) {
+            pageInfo.startRow = 0;
+            pageInfo.endRow = 0;
+        } else {
+            pageInfo.startRow = (pageNum - 1) * pageSize + 1;
+            pageInfo.endRow = pageInfo.startRow - 1 + pageInfo.size;
+        }
+        pageInfo.navigatePages = navigatePages;
+        // 以已知的最后一页计算导航和边界，计算完成后再标记为未知
+        pageInfo.pages = hasNextPage ? pageNum + 1 : pageNum;
+        pageInfo.calcNavigatePageNums();
+        pageInfo.calcPage();
+        pageInfo.judgePageBoudary();
+        pageInfo.pages = -1;
+        pageInfo.total = -1;
+        pageInfo.totalUnknown = true;
+        return pageInfo;
+    }
+
+    /**
+     * 估算总数可能与实际偏差较大，根据当前页的数据修正，保证导航页包含当前页
+     */
+    private void correctApproximateTotal() {
+        if (size < pageSize && (size > 0 || pageNum == 1)) {
+            // 当前页未满，说明已经是最后一页，总数可以精确计算
+            this.total = size == 0 ? 0 : endRow;
+            this.pages = pageNum;
+            this.approximate = false;
+        } else if (size == pageSize && pages <= pageNum) {
+            // 当前页已满，后面可能还有数据
+            this.pages = pageNum + 1;
+            this.total = Math.max(total, (long) pageNum * pageSize);
+        }
+    }
+
     /**
      * 计算导航页
      */
@@ -406,6 +510,38 @@ public class PageInfo<T> implements Serializable {
         this.navigateLastPage = navigateLastPage;
     }
 
+    public boolean isTotalUnknown() {
+        return totalUnknown;
+    }
+
+    public void setTotalUnknown(boolean totalUnknown) {
+        this.totalUnknown = totalUnknown;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
+    public boolean isTotalFromCache() {
+        return totalFromCache;
+    }
+
+    public void setTotalFromCache(boolean totalFromCache) {
+        this.totalFromCache = totalFromCache;
+    }
+
+    public long getTotalAgeMillis() {
+        return totalAgeMillis;
+    }
+
+    public void setTotalAgeMillis(long totalAgeMillis) {
+        this.totalAgeMillis = totalAgeMillis;
+    }
+
     @Override
     public String toString() {
         final StringBuffer sb = new StringBuffer("PageInfo{");
@@ -443,6 +579,14 @@ public class PageInfo<T> implements Serializable {
             .append(navigateFirstPage);
         sb.append(", navigateLastPage=")
             .append(navigateLastPage);
+        sb.append(", totalUnknown=")
+            .append(totalUnknown);
+        sb.append(", approximate=")
+            .append(approximate);
+        sb.append(", totalFromCache=")
+            .append(totalFromCache);
+        sb.append(", totalAgeMillis=")
+            .append(totalAgeMillis);
         sb.append(", navigateageNums=");
         if (navigatePageNums == null) {
             sb.append("null");
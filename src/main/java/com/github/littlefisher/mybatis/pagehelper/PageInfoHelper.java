@@ -0,0 +1,203 @@
+package com.github.littlefisher.mybatis.pagehelper;
+
+import com.github.littlefisher.mybatis.pagehelper.count.CountAwarePageHelper;
+import com.github.littlefisher.mybatis.pagehelper.count.PageCountInfo;
+import com.github.pagehelper.ISelect;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageException;
+import com.github.pagehelper.PageHelper;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 根据{@link PageParam}执行分页查询并构造{@link PageInfo}
+ * <pre>
+ * PageInfo&lt;User&gt; pageInfo = PageInfoHelper.doSelectPageInfo(pageParam,
+ *     () -&gt; userMapper.selectByExample(example));
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 13:05
+ */
+public final class PageInfoHelper {
+
+    /** 默认页码数量 */
+    private static final int DEFAULT_NAVIGATE_PAGES = 8;
+
+    /** count查询使用的线程池，未设置时使用默认线程池 */
+    private static volatile Executor countExecutor;
+
+    /** 允许请求的最大页码，不大于0时不限制 */
+    private static volatile int maxPageNum;
+
+    /** 允许请求的最大每页数量，不大于0时不限制 */
+    private static volatile int maxPageSize;
+
+    private PageInfoHelper() {}
+
+    /**
+     * 设置{@link PageParam#isConcurrentCount()}模式下执行count查询的线程池，
+     * 在JDK21以上可以传入{@code Executors.newVirtualThreadPerTaskExecutor()}
+     *
+     * @param executor 线程池
+     */
+    public static void setCountExecutor(Executor executor) {
+        countExecutor = executor;
+    }
+
+    /**
+     * 设置{@link PageParam}允许请求的最大页码，不大于0时不限制，
+     * 也可以通过{@link com.github.littlefisher.mybatis.pagehelper.deferred.DeferredJoinPageInterceptor}的maxPageNum配置
+     *
+     * @param maxPageNum 最大页码
+     */
+    public static void setMaxPageNum(int maxPageNum) {
+        PageInfoHelper.maxPageNum = maxPageNum;
+    }
+
+    /**
+     * 设置{@link PageParam}允许请求的最大每页数量，不大于0时不限制，
+     * 也可以通过{@link com.github.littlefisher.mybatis.pagehelper.deferred.DeferredJoinPageInterceptor}的maxPageSize配置
+     *
+     * @param maxPageSize 最大每页数量
+     */
+    public static void setMaxPageSize(int maxPageSize) {
+        PageInfoHelper.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * 校验调用方请求的页码和每页数量是否超过上限。只校验{@link PageParam}，
+     * 分页工具内部为判断下一页或合并分片而多查询的行不受限制
+     *
+     * @param pageParam 分页参数
+     * @throws PageException 超过上限
+     */
+    public static void checkPageParam(PageParam pageParam) {
+        int pageNum = maxPageNum;
+        if (pageNum > 0 && pageParam.getPageNum() > pageNum) {
+            throw new PageException("页码" + pageParam.getPageNum() + "超过最大限制" + pageNum);
+        }
+        int pageSize = maxPageSize;
+        if (pageSize > 0 && pageParam.getPageSize() > pageSize) {
+            throw new PageException("每页数量" + pageParam.getPageSize() + "超过最大限制" + pageSize);
+        }
+    }
+
+    /**
+     * 执行分页查询
+     *
+     * @param pageParam 分页参数
+     * @param select 查询逻辑
+     * @param <T> 泛型
+     * @return 分页结果
+     */
+    public static <T> PageInfo<T> doSelectPageInfo(PageParam pageParam, ISelect select) {
+        checkPageParam(pageParam);
+        if (pageParam.isSkipCount()) {
+            return doSelectPageInfoWithoutCount(pageParam, select);
+        }
+        if (pageParam.isConcurrentCount()) {
+            return doSelectPageInfoConcurrently(pageParam, select, getCountExecutor());
+        }
+        Page<T> page = PageHelper.startPage(pageParam.getPageNum(), pageParam.getPageSize())
+            .doSelectPage(countSelect(pageParam, select));
+        return new PageInfo<>(page);
+    }
+
+    /**
+     * 根据参数包装执行count的查询，开启估算时在查询期间设置估算标记
+     *
+     * @param pageParam 分页参数
+     * @param select 查询逻辑
+     * @return 执行count的查询
+     */
+    private static ISelect countSelect(PageParam pageParam, ISelect select) {
+        if (!pageParam.isApproximateCount()) {
+            return select;
+        }
+        return () -> {
+            CountAwarePageHelper.setApproximateCount(true);
+            try {
+                select.doSelect();
+            } finally {
+                CountAwarePageHelper.clearApproximateCount();
+            }
+        };
+    }
+
+    /**
+     * 不执行count查询，按offset多查询一行，根据是否查到该行判断是否有下一页
+     *
+     * @param pageParam 分页参数
+     * @param select 查询逻辑
+     * @param <T> 泛型
+     * @return 分页结果，total和pages为-1，参见{@link PageInfo#isTotalUnknown()}
+     */
+    public static <T> PageInfo<T> doSelectPageInfoWithoutCount(PageParam pageParam, ISelect select) {
+        checkPageParam(pageParam);
+        int pageNum = Math.max(pageParam.getPageNum(), 1);
+        int pageSize = pageParam.getPageSize();
+        Page<T> page = PageHelper.offsetPage((pageNum - 1) * pageSize, pageSize + 1, false)
+            .doSelectPage(select);
+        boolean hasNextPage = page.size() > pageSize;
+        if (hasNextPage) {
+            page.remove(page.size() - 1);
+        }
+        return PageInfo.ofUnknownTotal(page, pageNum, pageSize, hasNextPage, DEFAULT_NAVIGATE_PAGES);
+    }
+
+    /**
+     * 在线程池中执行count查询，同时在当前线程执行分页查询，两者都完成后再计算导航信息
+     * <p/>
+     * count查询运行在其他线程上，会使用独立的SqlSession和连接，不在当前事务内，因此select必须是线程安全的
+     * （例如Spring管理的Mapper），不能直接使用当前线程的SqlSession。由于分页查询先于count完成，
+     * reasonable参数不会再根据总数修正页码
+     *
+     * @param pageParam 分页参数
+     * @param select 查询逻辑
+     * @param executor 执行count查询的线程池
+     * @param <T> 泛型
+     * @return 分页结果
+     */
+    public static <T> PageInfo<T> doSelectPageInfoConcurrently(PageParam pageParam, ISelect select,
+        Executor executor) {
+        checkPageParam(pageParam);
+        // count信息（缓存、估算）绑定在count线程的Page上，连同Page一起返回
+        CompletableFuture<Page<Object>> countFuture = CompletableFuture.supplyAsync(() -> {
+            Page<Object> countPage = PageHelper.startPage(1, -1, true);
+            countPage.doCount(countSelect(pageParam, select));
+            return countPage;
+        }, executor);
+        Page<T> page;
+        try {
+            page = PageHelper.startPage(pageParam.getPageNum(), pageParam.getPageSize(), false)
+                .doSelectPage(select);
+        } catch (RuntimeException | Error e) {
+            countFuture.cancel(true);
+            throw e;
+        }
+        Page<Object> countPage;
+        try {
+            countPage = countFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        page.setReasonable(false);
+        page.setCount(true);
+        page.setTotal(countPage.getTotal());
+        PageCountInfo countInfo = PageCountInfo.of(countPage);
+        if (countInfo != null) {
+            PageCountInfo.bind(page, countInfo);
+        }
+        return new PageInfo<>(page);
+    }
+
+    private static Executor getCountExecutor() {
+        Executor executor = countExecutor;
+        return executor != null ? executor : PageExecutors.getDefaultExecutor();
+    }
+}
@@ -0,0 +1,212 @@
+package com.github.littlefisher.mybatis.pagehelper;
+
+import com.github.pagehelper.ISelect;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageHelper;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 逐页遍历查询的全部结果，调用方处理第N页时在后台线程预取后面的页
+ * <pre>
+ * try (Stream&lt;User&gt; users = PageIterator.stream(pageParam, () -&gt; userMapper.selectByExample(example))) {
+ *     users.forEach(this::reconcile);
+ * }
+ * </pre>
+ * 后台线程使用独立的SqlSession，因此select必须是线程安全的（例如Spring管理的Mapper）。
+ * 查询不执行count，某一页不足pageSize时视为最后一页。查询应带有稳定的排序，否则翻页结果可能重复或遗漏
+ *
+ * @author jinyanan
+ * @since 2026/10/18 15:20
+ */
+public class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /** 默认预取的页数 */
+    private static final int DEFAULT_PREFETCH_PAGES = 1;
+
+    private final ISelect select;
+
+    private final int pageSize;
+
+    private final Executor executor;
+
+    /** 后台最多预取的页数，内存中最多同时持有prefetchPages + 1页 */
+    private final int prefetchPages;
+
+    private final PageFetchListener listener;
+
+    /** 已提交的查询，按页码顺序 */
+    private final Deque<PageFuture<T>> pending = new ArrayDeque<>();
+
+    /** 下一个要提交的页码 */
+    private int nextPageNum;
+
+    /** 是否已经遇到最后一页 */
+    private boolean exhausted;
+
+    private boolean closed;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private long fetchedRows;
+
+    public PageIterator(PageParam pageParam, ISelect select) {
+        this(pageParam, select, PageExecutors.getDefaultExecutor(), DEFAULT_PREFETCH_PAGES, null);
+    }
+
+    /**
+     * @param pageParam 起始页和每页数量
+     * @param select 查询逻辑
+     * @param executor 执行查询的线程池
+     * @param prefetchPages 后台预取的页数，至少为1
+     * @param listener 进度回调，可以为null
+     */
+    public PageIterator(PageParam pageParam, ISelect select, Executor executor, int prefetchPages,
+        PageFetchListener listener) {
+        if (pageParam.getPageSize() <= 0) {
+            throw new IllegalArgumentException("pageSize必须大于0");
+        }
+        if (prefetchPages < 1) {
+            throw new IllegalArgumentException("prefetchPages必须大于0");
+        }
+        this.select = select;
+        this.pageSize = pageParam.getPageSize();
+        this.nextPageNum = Math.max(pageParam.getPageNum(), 1);
+        this.executor = executor;
+        this.prefetchPages = prefetchPages;
+        this.listener = listener;
+    }
+
+    /**
+     * 以Stream的形式遍历，Stream关闭时取消未完成的预取
+     *
+     * @param pageParam 起始页和每页数量
+     * @param select 查询逻辑
+     * @param <T> 泛型
+     * @return stream
+     */
+    public static <T> Stream<T> stream(PageParam pageParam, ISelect select) {
+        return new PageIterator<T>(pageParam, select).stream();
+    }
+
+    /**
+     * 以Stream的形式遍历，Stream关闭时取消未完成的预取
+     *
+     * @return stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (!advance()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 切换到下一页
+     *
+     * @return 是否还有数据
+     */
+    private boolean advance() {
+        if (closed) {
+            return false;
+        }
+        prefetch();
+        PageFuture<T> pageFuture = pending.poll();
+        if (pageFuture == null) {
+            return false;
+        }
+        List<T> list = join(pageFuture.future);
+        if (list.size() < pageSize) {
+            exhausted = true;
+            cancelPending();
+        }
+        fetchedRows += list.size();
+        if (listener != null) {
+            listener.onPageFetched(pageFuture.pageNum, list.size(), fetchedRows);
+        }
+        current = list.iterator();
+        // 调用方处理当前页的同时，后台查询后面的页
+        prefetch();
+        return true;
+    }
+
+    private void prefetch() {
+        while (!exhausted && pending.size() < prefetchPages) {
+            int pageNum = nextPageNum++;
+            pending.add(new PageFuture<>(pageNum, CompletableFuture.supplyAsync(() -> {
+                Page<T> page = PageHelper.startPage(pageNum, pageSize, false)
+                    .doSelectPage(select);
+                return page;
+            }, executor)));
+        }
+    }
+
+    private List<T> join(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void cancelPending() {
+        PageFuture<T> pageFuture;
+        while ((pageFuture = pending.poll()) != null) {
+            pageFuture.future.cancel(true);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        exhausted = true;
+        cancelPending();
+        current = Collections.emptyIterator();
+    }
+
+    /**
+     * 已提交的一页查询
+     */
+    private static class PageFuture<T> {
+
+        private final int pageNum;
+
+        private final CompletableFuture<List<T>> future;
+
+        private PageFuture(int pageNum, CompletableFuture<List<T>> future) {
+            this.pageNum = pageNum;
+            this.future = future;
+        }
+    }
+}
@@ -33,4 +33,23 @@ public class PageParam implements Serializable {
     @Builder.Default
     private int pageSize = 20;
 
+    /**
+     * 是否并发执行count查询和分页查询，参见{@link PageInfoHelper}
+     */
+    @Builder.Default
+    private boolean concurrentCount = false;
+
+    /**
+     * 是否跳过count查询，多查询一行判断是否有下一页，适用于不需要展示总数的场景（如无限滚动）
+     */
+    @Builder.Default
+    private boolean skipCount = false;
+
+    /**
+     * 是否允许使用数据库估算的总数，估算值超过阈值时不执行count查询，需要配置{@link
+     * com.github.littlefisher.mybatis.pagehelper.count.CountAwarePageInterceptor}
+     */
+    @Builder.Default
+    private boolean approximateCount = false;
+
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.github.littlefisher.mybatis.pagehelper;
+
+/**
+ * {@link PageInfo#PageInfo(PageInfo, java.util.function.Function, TransformMode)}中list的转换方式
+ *
+ * @author jinyanan
+ * @since 2026/10/18 14:45
+ */
+public enum TransformMode {
+
+    /** 立即在当前线程转换全部元素 */
+    EAGER,
+
+    /** 返回延迟转换的视图，元素在被访问或序列化时才转换，适合只会用到部分元素或转换较重的场景 */
+    LAZY,
+
+    /** 元素较多时使用ForkJoin公共线程池并行转换，保持原有顺序，function必须是线程安全的 */
+    PARALLEL
+}
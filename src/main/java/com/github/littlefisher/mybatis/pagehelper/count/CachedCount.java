@@ -0,0 +1,19 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import lombok.Value;
+
+/**
+ * 缓存的count结果
+ *
+ * @author jinyanan
+ * @since 2026/10/18 11:42
+ */
+@Value
+public class CachedCount {
+
+    /** 总数 */
+    long total;
+
+    /** 执行count的时间戳（毫秒） */
+    long countedAt;
+}
@@ -0,0 +1,247 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import com.github.littlefisher.mybatis.pagehelper.count.estimate.MySqlRowCountEstimator;
+import com.github.littlefisher.mybatis.pagehelper.count.estimate.PostgreSqlRowCountEstimator;
+import com.github.littlefisher.mybatis.pagehelper.count.estimate.RowCountEstimator;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageException;
+import com.github.pagehelper.PageHelper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 支持count缓存和估算总数的分页方言，由{@link CountAwarePageInterceptor}创建并注入{@link CountCache}
+ * <p/>
+ * 命中缓存时直接设置total并跳过count查询，未命中时在count完成后写入缓存。
+ * 通过{@link #setApproximateCount(boolean)}开启估算后，若数据库估算行数不小于approximateCountThreshold，
+ * 则使用估算值作为total，否则仍执行精确count
+ *
+ * @author jinyanan
+ * @since 2026/10/18 12:10
+ */
+public class CountAwarePageHelper extends PageHelper {
+
+    /** 用于在properties中传递CountCache实例的key */
+    public static final String COUNT_CACHE = CountAwarePageHelper.class.getName() + ".countCache";
+
+    /** 用于在properties中传递与拦截器共用的{@link CountCacheInvalidator}的key */
+    static final String COUNT_CACHE_INVALIDATOR = CountAwarePageHelper.class.getName() + ".countCacheInvalidator";
+
+    /** 使用估算总数的最小行数，估算值小于该值时执行精确count */
+    public static final String APPROXIMATE_COUNT_THRESHOLD = "approximateCountThreshold";
+
+    /** 自定义{@link RowCountEstimator}实现类，多个用逗号分隔 */
+    public static final String ROW_COUNT_ESTIMATOR_CLASS = "rowCountEstimatorClass";
+
+    private static final long DEFAULT_APPROXIMATE_COUNT_THRESHOLD = 100000;
+
+    private static final Log log = LogFactory.getLog(CountAwarePageHelper.class);
+
+    /** 当前线程是否允许估算总数 */
+    private static final ThreadLocal<Boolean> LOCAL_APPROXIMATE_COUNT = new ThreadLocal<>();
+
+    /** 当前线程正在执行查询的Executor，由{@link CountAwarePageInterceptor}设置，用于获取连接执行EXPLAIN */
+    static final ThreadLocal<Executor> LOCAL_EXECUTOR = new ThreadLocal<>();
+
+    /** 当前线程未命中缓存的key，count完成后写入 */
+    private final ThreadLocal<PendingCount> localPendingCount = new ThreadLocal<>();
+
+    private CountCache countCache;
+
+    private CountCacheInvalidator countCacheInvalidator;
+
+    private long approximateCountThreshold = DEFAULT_APPROXIMATE_COUNT_THRESHOLD;
+
+    private List<RowCountEstimator> rowCountEstimators = new ArrayList<>();
+
+    /**
+     * 设置当前线程下一次分页查询是否允许估算总数，分页查询结束后自动清除
+     *
+     * @param approximateCount 是否允许估算
+     */
+    public static void setApproximateCount(boolean approximateCount) {
+        LOCAL_APPROXIMATE_COUNT.set(approximateCount);
+    }
+
+    /**
+     * 清除当前线程的估算设置
+     */
+    public static void clearApproximateCount() {
+        LOCAL_APPROXIMATE_COUNT.remove();
+    }
+
+    @Override
+    public boolean beforeCount(MappedStatement ms, Object parameterObject, RowBounds rowBounds) {
+        if (!super.beforeCount(ms, parameterObject, rowBounds)) {
+            return false;
+        }
+        Page<?> page = getLocalPage();
+        if (countCacheInvalidator != null) {
+            CountCacheKey key = CountCacheKey.of(ms, parameterObject);
+            // 有未提交写操作的会话count到的是未提交的数据，既不读也不写缓存
+            if (!countCacheInvalidator.isDirty(LOCAL_EXECUTOR.get(), key.getTable())) {
+                CachedCount cachedCount = countCache.get(key);
+                if (cachedCount != null) {
+                    page.setTotal(cachedCount.getTotal());
+                    PageCountInfo.bind(page, new PageCountInfo(true, false, cachedCount.getCountedAt()));
+                    return false;
+                }
+                localPendingCount.set(new PendingCount(key, countCacheInvalidator.getEpoch(key.getTable())));
+            }
+        }
+        if (Boolean.TRUE.equals(LOCAL_APPROXIMATE_COUNT.get())) {
+            Long estimate = estimate(ms, parameterObject);
+            if (estimate != null && estimate >= approximateCountThreshold) {
+                // 估算值不写入缓存
+                localPendingCount.remove();
+                page.setTotal(estimate);
+                PageCountInfo.bind(page, new PageCountInfo(false, true, System.currentTimeMillis()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 估算行数，出错时返回null，由精确count兜底
+     *
+     * @param ms MappedStatement
+     * @param parameterObject 参数
+     * @return 估算行数
+     */
+    private Long estimate(MappedStatement ms, Object parameterObject) {
+        Executor executor = LOCAL_EXECUTOR.get();
+        if (executor == null || rowCountEstimators.isEmpty()) {
+            return null;
+        }
+        try {
+            Connection connection = executor.getTransaction()
+                .getConnection();
+            String databaseProductName = connection.getMetaData()
+                .getDatabaseProductName();
+            for (RowCountEstimator estimator : rowCountEstimators) {
+                if (estimator.supports(databaseProductName)) {
+                    return estimate(connection, estimator, ms, parameterObject);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Estimate row count of " + ms.getId() + " failed, fall back to count query: " + e);
+        }
+        return null;
+    }
+
+    /**
+     * 在事务中时使用savepoint包裹EXPLAIN，出错后回滚到savepoint。
+     * PostgreSQL等数据库中任意语句出错都会使整个事务失效，不回滚的话随后的精确count和调用方的后续操作都会失败
+     *
+     * @param connection 当前事务的连接
+     * @param estimator 行数估算
+     * @param ms MappedStatement
+     * @param parameterObject 参数
+     * @return 估算行数
+     * @throws SQLException 执行EXPLAIN出错
+     */
+    private static Long estimate(Connection connection, RowCountEstimator estimator, MappedStatement ms,
+        Object parameterObject) throws SQLException {
+        if (connection.getAutoCommit()) {
+            return estimator.estimate(connection, ms, ms.getBoundSql(parameterObject), parameterObject);
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        Long estimate;
+        try {
+            estimate = estimator.estimate(connection, ms, ms.getBoundSql(parameterObject), parameterObject);
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.rollback(savepoint);
+            } catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            throw e;
+        }
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            // 部分驱动不支持释放savepoint，事务结束时自动释放
+        }
+        return estimate;
+    }
+
+    @Override
+    public boolean afterCount(long count, Object parameterObject, RowBounds rowBounds) {
+        PendingCount pendingCount = localPendingCount.get();
+        if (pendingCount != null) {
+            countCacheInvalidator.put(pendingCount.key, count, pendingCount.epoch);
+        }
+        return super.afterCount(count, parameterObject, rowBounds);
+    }
+
+    @Override
+    public void afterAll() {
+        localPendingCount.remove();
+        LOCAL_APPROXIMATE_COUNT.remove();
+        super.afterAll();
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        super.setProperties(properties);
+        Object invalidator = properties.get(COUNT_CACHE_INVALIDATOR);
+        Object countCache = properties.get(COUNT_CACHE);
+        if (invalidator instanceof CountCacheInvalidator) {
+            this.countCacheInvalidator = (CountCacheInvalidator) invalidator;
+            this.countCache = countCacheInvalidator.getCountCache();
+        } else if (countCache instanceof CountCache) {
+            this.countCache = (CountCache) countCache;
+            this.countCacheInvalidator = new CountCacheInvalidator(this.countCache);
+        }
+        String threshold = properties.getProperty(APPROXIMATE_COUNT_THRESHOLD);
+        if (StringUtils.isNotBlank(threshold)) {
+            this.approximateCountThreshold = Long.parseLong(threshold);
+        }
+        String estimatorClasses = properties.getProperty(ROW_COUNT_ESTIMATOR_CLASS);
+        List<RowCountEstimator> estimators = new ArrayList<>();
+        if (StringUtils.isNotBlank(estimatorClasses)) {
+            for (String estimatorClass : StringUtils.split(estimatorClasses, ',')) {
+                try {
+                    estimators.add((RowCountEstimator) Class.forName(estimatorClass.trim())
+                        .getDeclaredConstructor()
+                        .newInstance());
+                } catch (Exception e) {
+                    throw new PageException("初始化行数估算[" + estimatorClass + "]时出错:" + e.getMessage(), e);
+                }
+            }
+        }
+        estimators.add(new MySqlRowCountEstimator());
+        estimators.add(new PostgreSqlRowCountEstimator());
+        this.rowCountEstimators = estimators;
+    }
+
+    public CountCache getCountCache() {
+        return countCache;
+    }
+
+    /**
+     * 等待count完成后写入缓存的key，以及count之前表的失效版本号
+     */
+    private static class PendingCount {
+
+        private final CountCacheKey key;
+
+        private final long epoch;
+
+        PendingCount(CountCacheKey key, long epoch) {
+            this.key = key;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import com.github.littlefisher.mybatis.common.util.MappedStatementUtil;
+import com.github.pagehelper.PageException;
+import com.github.pagehelper.PageInterceptor;
+import java.util.Properties;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 在PageHelper分页插件的基础上增加count缓存和估算总数，替代{@link PageInterceptor}配置即可
+ * <p/>
+ * 配置项（其余配置与PageHelper相同）:
+ * <ul>
+ * <li>countCacheEnabled: 是否启用count缓存，默认false</li>
+ * <li>countCacheClass: {@link CountCache}实现类，默认{@link GuavaCountCache}</li>
+ * <li>approximateCountThreshold: 估算总数的最小行数，默认100000，参见{@link CountAwarePageHelper}</li>
+ * <li>rowCountEstimatorClass: 自定义行数估算实现类，默认支持MySQL和PostgreSQL</li>
+ * </ul>
+ * 通过同一个SqlSessionFactory执行的insert/update/delete会使对应表的count缓存失效，事务结束后再失效一次，
+ * 参见{@link CountCacheInvalidator}；绕过MyBatis的写操作只能依赖过期时间
+ *
+ * @author jinyanan
+ * @since 2026/10/18 12:20
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+            BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})})
+public class CountAwarePageInterceptor extends PageInterceptor {
+
+    /** 是否启用count缓存 */
+    public static final String COUNT_CACHE_ENABLED = "countCacheEnabled";
+
+    /** count缓存实现类 */
+    public static final String COUNT_CACHE_CLASS = "countCacheClass";
+
+    private static final String DIALECT = "dialect";
+
+    private static final String UPDATE = "update";
+
+    private static final String QUERY = "query";
+
+    private volatile CountCache countCache;
+
+    private volatile CountCacheInvalidator countCacheInvalidator;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        String methodName = invocation.getMethod()
+            .getName();
+        if (!QUERY.equals(methodName)) {
+            CountCacheInvalidator invalidator = countCacheInvalidator;
+            Executor executor = (Executor) invocation.getTarget();
+            try {
+                return invocation.proceed();
+            } finally {
+                if (invalidator != null) {
+                    if (UPDATE.equals(methodName)) {
+                        invalidator.written(executor,
+                            MappedStatementUtil.getTableName((MappedStatement) invocation.getArgs()[0]));
+                    } else {
+                        // commit/rollback/close
+                        invalidator.completed(executor);
+                    }
+                }
+            }
+        }
+        Executor previous = CountAwarePageHelper.LOCAL_EXECUTOR.get();
+        CountAwarePageHelper.LOCAL_EXECUTOR.set((Executor) invocation.getTarget());
+        try {
+            return super.intercept(invocation);
+        } finally {
+            if (previous == null) {
+                CountAwarePageHelper.LOCAL_EXECUTOR.remove();
+            } else {
+                CountAwarePageHelper.LOCAL_EXECUTOR.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        Properties props = new Properties();
+        props.putAll(properties);
+        if (StringUtils.isBlank(props.getProperty(DIALECT))) {
+            props.setProperty(DIALECT, CountAwarePageHelper.class.getName());
+        }
+        countCache = createCountCache(props);
+        if (countCache != null) {
+            countCacheInvalidator = new CountCacheInvalidator(countCache);
+            props.put(CountAwarePageHelper.COUNT_CACHE, countCache);
+            props.put(CountAwarePageHelper.COUNT_CACHE_INVALIDATOR, countCacheInvalidator);
+        }
+        super.setProperties(props);
+    }
+
+    private CountCache createCountCache(Properties properties) {
+        if (!Boolean.parseBoolean(properties.getProperty(COUNT_CACHE_ENABLED))) {
+            return null;
+        }
+        CountCache cache;
+        String cacheClass = properties.getProperty(COUNT_CACHE_CLASS);
+        if (StringUtils.isBlank(cacheClass)) {
+            cache = new GuavaCountCache();
+        } else {
+            try {
+                cache = (CountCache) Class.forName(cacheClass)
+                    .getDeclaredConstructor()
+                    .newInstance();
+            } catch (Exception e) {
+                throw new PageException("初始化count缓存[" + cacheClass + "]时出错:" + e.getMessage(), e);
+            }
+        }
+        cache.setProperties(properties);
+        return cache;
+    }
+
+    public CountCache getCountCache() {
+        return countCache;
+    }
+}
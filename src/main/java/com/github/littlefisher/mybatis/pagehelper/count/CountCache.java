@@ -0,0 +1,50 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import java.util.Properties;
+
+/**
+ * 分页count结果缓存
+ * <p/>
+ * 相同statement、相同参数的count结果在短时间内基本不变，缓存后翻页时可以跳过count查询。
+ * 对同一张表的写操作会通过{@link #invalidate(String)}使该表的缓存失效
+ *
+ * @author jinyanan
+ * @since 2026/10/18 11:40
+ */
+public interface CountCache {
+
+    /**
+     * 获取缓存的count结果
+     *
+     * @param key 缓存key
+     * @return count结果，未命中时为null
+     */
+    CachedCount get(CountCacheKey key);
+
+    /**
+     * 缓存count结果
+     *
+     * @param key 缓存key
+     * @param total 总数
+     */
+    void put(CountCacheKey key, long total);
+
+    /**
+     * 使指定表的所有count结果失效
+     *
+     * @param table 表名，参见{@link CountCacheKey#getTable()}
+     */
+    void invalidate(String table);
+
+    /**
+     * 清空缓存
+     */
+    void clear();
+
+    /**
+     * 设置属性，属性来自分页插件的配置
+     *
+     * @param properties 属性
+     */
+    default void setProperties(Properties properties) {}
+}
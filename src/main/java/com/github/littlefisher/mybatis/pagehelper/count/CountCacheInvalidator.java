@@ -0,0 +1,108 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import com.github.littlefisher.mybatis.common.util.SpringTransactionHook;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ibatis.executor.Executor;
+
+/**
+ * 维护count缓存的失效，由{@link CountAwarePageInterceptor}和{@link CountAwarePageHelper}共用
+ * <p/>
+ * 写操作执行后立即失效对应表的缓存，事务提交、回滚或关闭后再失效一次，存在Spring事务同步时在数据库事务真正结束后再失效一次。
+ * 有未提交写操作的会话不读写该表的count缓存。每次失效递增表的版本号，count执行期间版本号发生变化时不保留结果，
+ * 避免与写操作重叠的count覆盖失效
+ *
+ * @author jinyanan
+ * @since 2026/10/18 12:15
+ */
+class CountCacheInvalidator {
+
+    private final CountCache countCache;
+
+    /** 表名 -> 失效版本号 */
+    private final ConcurrentMap<String, AtomicLong> epochs = new ConcurrentHashMap<>();
+
+    /** 会话中有未提交写操作的表，在提交、回滚或关闭时移除 */
+    private final ConcurrentMap<Executor, Set<String>> dirtyTables = new ConcurrentHashMap<>();
+
+    CountCacheInvalidator(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    CountCache getCountCache() {
+        return countCache;
+    }
+
+    /**
+     * 获取表当前的失效版本号，在执行count之前获取
+     *
+     * @param table 表名
+     * @return 版本号
+     */
+    long getEpoch(String table) {
+        AtomicLong epoch = epochs.get(table);
+        return epoch == null ? 0 : epoch.get();
+    }
+
+    /**
+     * 会话是否有该表未提交的写操作
+     *
+     * @param executor 当前会话的Executor，可以为null
+     * @param table 表名
+     * @return 是否有未提交的写操作
+     */
+    boolean isDirty(Executor executor, String table) {
+        Set<String> tables = executor == null ? null : dirtyTables.get(executor);
+        return tables != null && tables.contains(table);
+    }
+
+    /**
+     * 缓存count结果，count期间表的缓存失效过时不保留。先写入再检查版本号，与失效时先递增版本号再清除缓存的顺序配合
+     *
+     * @param key 缓存key
+     * @param total 总数
+     * @param epoch 执行count之前获取的版本号
+     */
+    void put(CountCacheKey key, long total, long epoch) {
+        if (getEpoch(key.getTable()) != epoch) {
+            return;
+        }
+        countCache.put(key, total);
+        if (getEpoch(key.getTable()) != epoch) {
+            countCache.invalidate(key.getTable());
+        }
+    }
+
+    /**
+     * 写操作执行后调用，记录会话的未提交写操作并失效表的缓存
+     *
+     * @param executor 执行写操作的Executor
+     * @param table 表名
+     */
+    void written(Executor executor, String table) {
+        dirtyTables.computeIfAbsent(executor, e -> ConcurrentHashMap.newKeySet())
+            .add(table);
+        invalidate(table);
+    }
+
+    /**
+     * 会话提交、回滚或关闭后调用，再次失效会话写过的表
+     *
+     * @param executor Executor
+     */
+    void completed(Executor executor) {
+        Set<String> tables = dirtyTables.remove(executor);
+        if (tables != null) {
+            tables.forEach(this::invalidate);
+            SpringTransactionHook.afterCompletion(() -> tables.forEach(this::invalidate));
+        }
+    }
+
+    private void invalidate(String table) {
+        epochs.computeIfAbsent(table, t -> new AtomicLong())
+            .incrementAndGet();
+        countCache.invalidate(table);
+    }
+}
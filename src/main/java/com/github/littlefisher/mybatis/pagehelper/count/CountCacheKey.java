@@ -0,0 +1,75 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import com.github.littlefisher.mybatis.common.util.MappedStatementUtil;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+/**
+ * count缓存的key，由statement id、渲染后的sql以及绑定的参数值组成
+ * <p/>
+ * 使用BoundSql而不是参数对象本身做key，因为Example等参数对象没有实现equals/hashCode，
+ * 而渲染后的sql加参数值就是count查询的全部输入
+ *
+ * @author jinyanan
+ * @since 2026/10/18 11:45
+ */
+@Value
+public class CountCacheKey {
+
+    /** 表名，用于写操作时按表失效 */
+    String table;
+
+    /** MappedStatement id */
+    String msId;
+
+    /** 渲染后的sql */
+    String sql;
+
+    /** 按顺序绑定的参数值 */
+    List<Object> parameters;
+
+    /**
+     * 根据查询创建key，参数值的解析方式与{@link org.apache.ibatis.scripting.defaults.DefaultParameterHandler}一致
+     *
+     * @param ms MappedStatement
+     * @param parameterObject 参数
+     * @return key
+     */
+    public static CountCacheKey of(MappedStatement ms, Object parameterObject) {
+        BoundSql boundSql = ms.getBoundSql(parameterObject);
+        Configuration configuration = ms.getConfiguration();
+        TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+        List<Object> parameters = new ArrayList<>(parameterMappings.size());
+        MetaObject metaObject = null;
+        for (ParameterMapping parameterMapping : parameterMappings) {
+            if (parameterMapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String propertyName = parameterMapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(propertyName)) {
+                value = boundSql.getAdditionalParameter(propertyName);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (typeHandlerRegistry.hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameterObject);
+                }
+                value = metaObject.getValue(propertyName);
+            }
+            parameters.add(value);
+        }
+        return new CountCacheKey(MappedStatementUtil.getTableName(ms), ms.getId(), boundSql.getSql(), parameters);
+    }
+}
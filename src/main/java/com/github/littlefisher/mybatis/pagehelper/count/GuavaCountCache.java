@@ -0,0 +1,119 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 基于Guava Cache的本地count缓存，支持过期时间和最大数量
+ * <p/>
+ * 配置项:
+ * <ul>
+ * <li>countCacheExpireSeconds: 写入后过期时间，默认60秒</li>
+ * <li>countCacheMaximumSize: 最大缓存数量，默认1000</li>
+ * </ul>
+ * 按表失效只递增表的版本号，不扫描缓存，版本号不一致的结果读取时视为未命中，之后按数量或过期时间淘汰
+ *
+ * @author jinyanan
+ * @since 2026/10/18 11:52
+ */
+public class GuavaCountCache implements CountCache {
+
+    /** 过期时间配置 */
+    public static final String EXPIRE_SECONDS = "countCacheExpireSeconds";
+
+    /** 最大缓存数量配置 */
+    public static final String MAXIMUM_SIZE = "countCacheMaximumSize";
+
+    private static final long DEFAULT_EXPIRE_SECONDS = 60;
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private volatile Cache<CountCacheKey, Entry> cache;
+
+    /** 表名 -> 失效版本号 */
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public GuavaCountCache() {
+        this(DEFAULT_EXPIRE_SECONDS, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public GuavaCountCache(long expireSeconds, long maximumSize) {
+        this.cache = build(expireSeconds, maximumSize);
+    }
+
+    @Override
+    public CachedCount get(CountCacheKey key) {
+        Cache<CountCacheKey, Entry> current = cache;
+        Entry entry = current.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation != getGeneration(key.getTable()).get()) {
+            current.asMap()
+                .remove(key, entry);
+            return null;
+        }
+        return entry.count;
+    }
+
+    @Override
+    public void put(CountCacheKey key, long total) {
+        // 先取版本号再写入，之后发生的失效都会使该结果失效
+        long generation = getGeneration(key.getTable()).get();
+        cache.put(key, new Entry(new CachedCount(total, System.currentTimeMillis()), generation));
+    }
+
+    @Override
+    public void invalidate(String table) {
+        getGeneration(table).incrementAndGet();
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        String expireSeconds = properties.getProperty(EXPIRE_SECONDS);
+        String maximumSize = properties.getProperty(MAXIMUM_SIZE);
+        if (StringUtils.isNotBlank(expireSeconds) || StringUtils.isNotBlank(maximumSize)) {
+            cache = build(StringUtils.isNotBlank(expireSeconds) ? Long.parseLong(expireSeconds) :
+                DEFAULT_EXPIRE_SECONDS, StringUtils.isNotBlank(maximumSize) ? Long.parseLong(maximumSize) :
+                DEFAULT_MAXIMUM_SIZE);
+        }
+    }
+
+    private AtomicLong getGeneration(String table) {
+        AtomicLong generation = generations.get(table);
+        return generation != null ? generation : generations.computeIfAbsent(table, t -> new AtomicLong());
+    }
+
+    private static Cache<CountCacheKey, Entry> build(long expireSeconds, long maximumSize) {
+        return CacheBuilder.newBuilder()
+            .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * 缓存的count结果及写入时表的版本号
+     */
+    private static class Entry {
+
+        private final CachedCount count;
+
+        private final long generation;
+
+        Entry(CachedCount count, long generation) {
+            this.count = count;
+            this.generation = generation;
+        }
+    }
+}
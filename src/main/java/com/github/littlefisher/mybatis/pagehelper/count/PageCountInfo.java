@@ -0,0 +1,54 @@
+package com.github.littlefisher.mybatis.pagehelper.count;
+
+import com.github.pagehelper.Page;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * 分页结果中total的来源信息（count缓存或数据库估算）
+ * <p/>
+ * {@link Page}由PageHelper创建，无法扩展字段，这里以Page对象本身（按引用、弱引用）为key保存，
+ * 构造{@link com.github.littlefisher.mybatis.pagehelper.PageInfo}时再取出
+ *
+ * @author jinyanan
+ * @since 2026/10/18 12:02
+ */
+@Value
+public class PageCountInfo {
+
+    /** Page -> count信息，weakKeys按引用比较，Page被回收后自动清除 */
+    private static final Cache<Page<?>, PageCountInfo> PAGE_COUNT_INFOS = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
+    /** total是否来自count缓存 */
+    boolean fromCache;
+
+    /** total是否为数据库估算值 */
+    boolean approximate;
+
+    /** 执行count的时间戳（毫秒） */
+    long countedAt;
+
+    /**
+     * 记录page的count信息
+     *
+     * @param page page
+     * @param countInfo count信息
+     */
+    public static void bind(Page<?> page, PageCountInfo countInfo) {
+        PAGE_COUNT_INFOS.put(page, countInfo);
+    }
+
+    /**
+     * 获取page的count信息
+     *
+     * @param list 查询结果
+     * @return count信息，不是Page或没有记录时为null
+     */
+    public static PageCountInfo of(List<?> list) {
+        return list instanceof Page ? PAGE_COUNT_INFOS.getIfPresent(list) : null;
+    }
+}
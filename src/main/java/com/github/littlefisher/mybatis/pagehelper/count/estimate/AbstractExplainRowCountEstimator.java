@@ -0,0 +1,46 @@
+package com.github.littlefisher.mybatis.pagehelper.count.estimate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+
+/**
+ * 通过EXPLAIN获取优化器估算行数，参数绑定方式与MyBatis执行查询时一致
+ *
+ * @author jinyanan
+ * @since 2026/10/18 13:55
+ */
+public abstract class AbstractExplainRowCountEstimator implements RowCountEstimator {
+
+    @Override
+    public Long estimate(Connection connection, MappedStatement ms, BoundSql boundSql, Object parameterObject)
+        throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(getExplainSql(boundSql.getSql()))) {
+            new DefaultParameterHandler(ms, parameterObject, boundSql).setParameters(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return extractRows(resultSet);
+            }
+        }
+    }
+
+    /**
+     * 生成EXPLAIN语句
+     *
+     * @param sql 原查询sql
+     * @return EXPLAIN语句
+     */
+    protected abstract String getExplainSql(String sql);
+
+    /**
+     * 从EXPLAIN结果中读取估算行数
+     *
+     * @param resultSet EXPLAIN结果
+     * @return 估算行数，无法读取时为null
+     * @throws SQLException 读取出错
+     */
+    protected abstract Long extractRows(ResultSet resultSet) throws SQLException;
+}
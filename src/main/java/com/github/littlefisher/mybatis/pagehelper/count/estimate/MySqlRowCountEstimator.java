@@ -0,0 +1,55 @@
+package com.github.littlefisher.mybatis.pagehelper.count.estimate;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * MySQL/MariaDB，取EXPLAIN第一行（驱动表）的rows * filtered%
+ *
+ * @author jinyanan
+ * @since 2026/10/18 14:00
+ */
+public class MySqlRowCountEstimator extends AbstractExplainRowCountEstimator {
+
+    private static final String ROWS = "rows";
+
+    private static final String FILTERED = "filtered";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "MySQL".equalsIgnoreCase(databaseProductName) || "MariaDB".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    protected String getExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    protected Long extractRows(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        long rows = resultSet.getLong(ROWS);
+        if (resultSet.wasNull()) {
+            return null;
+        }
+        if (hasColumn(resultSet.getMetaData(), FILTERED)) {
+            double filtered = resultSet.getDouble(FILTERED);
+            if (!resultSet.wasNull()) {
+                rows = Math.round(rows * filtered / 100);
+            }
+        }
+        return rows;
+    }
+
+    private static boolean hasColumn(ResultSetMetaData metaData, String column) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.littlefisher.mybatis.pagehelper.count.estimate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL，取EXPLAIN第一行（最外层节点）中的rows
+ *
+ * @author jinyanan
+ * @since 2026/10/18 14:05
+ */
+public class PostgreSqlRowCountEstimator extends AbstractExplainRowCountEstimator {
+
+    private static final Pattern ROWS = Pattern.compile("rows=(\\d+)");
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    protected String getExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    protected Long extractRows(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        Matcher matcher = ROWS.matcher(resultSet.getString(1));
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.littlefisher.mybatis.pagehelper.count.estimate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * 根据数据库的执行计划或统计信息估算查询结果的行数，用于代替精确的count查询
+ *
+ * @author jinyanan
+ * @since 2026/10/18 13:50
+ */
+public interface RowCountEstimator {
+
+    /**
+     * 是否支持该数据库
+     *
+     * @param databaseProductName {@link java.sql.DatabaseMetaData#getDatabaseProductName()}
+     * @return 是否支持
+     */
+    boolean supports(String databaseProductName);
+
+    /**
+     * 估算查询结果的行数
+     *
+     * @param connection 当前连接
+     * @param ms MappedStatement
+     * @param boundSql 查询sql
+     * @param parameterObject 参数
+     * @return 估算行数，无法估算时为null
+     * @throws SQLException 执行出错
+     */
+    Long estimate(Connection connection, MappedStatement ms, BoundSql boundSql, Object parameterObject)
+        throws SQLException;
+}
@@ -0,0 +1,110 @@
+package com.github.littlefisher.mybatis.pagehelper.deferred;
+
+import com.github.littlefisher.mybatis.common.util.MappedStatementUtil;
+import com.github.littlefisher.mybatis.pagehelper.PageInfoHelper;
+import com.github.littlefisher.mybatis.pagehelper.PageParam;
+import com.github.littlefisher.mybatis.pagehelper.count.CountAwarePageHelper;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.parser.OrderByParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.RowBounds;
+import tk.mybatis.mapper.MapperException;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.entity.EntityTable;
+import tk.mybatis.mapper.mapperhelper.EntityHelper;
+
+/**
+ * 支持深分页延迟关联和分页上限的分页方言，由{@link DeferredJoinPageInterceptor}创建
+ * <p/>
+ * offset不小于deferredJoinOffsetThreshold时，通用Mapper单表查询会改写为先按主键分页再回表的形式，
+ * 参见{@link DeferredJoinSqlParser}；无法改写时按原sql分页。
+ * 配置的maxPageNum/maxPageSize转交给{@link PageInfoHelper#checkPageParam(PageParam)}，
+ * 只限制调用方通过{@link PageParam}请求的分页，不限制分页工具内部多查询的行
+ *
+ * @author jinyanan
+ * @since 2026/10/18 13:55
+ */
+public class DeferredJoinPageHelper extends CountAwarePageHelper {
+
+    /** 使用延迟关联的最小offset */
+    public static final String DEFERRED_JOIN_OFFSET_THRESHOLD = "deferredJoinOffsetThreshold";
+
+    /** 允许请求的最大页码，不大于0时不限制 */
+    public static final String MAX_PAGE_NUM = "maxPageNum";
+
+    /** 允许请求的最大每页数量，不大于0时不限制 */
+    public static final String MAX_PAGE_SIZE = "maxPageSize";
+
+    private static final long DEFAULT_DEFERRED_JOIN_OFFSET_THRESHOLD = 10000;
+
+    private long deferredJoinOffsetThreshold = DEFAULT_DEFERRED_JOIN_OFFSET_THRESHOLD;
+
+    @Override
+    public String getPageSql(MappedStatement ms, BoundSql boundSql, Object parameterObject, RowBounds rowBounds,
+        CacheKey pageKey) {
+        Page<?> page = getLocalPage();
+        if (page.isOrderByOnly() || page.getStartRow() < deferredJoinOffsetThreshold) {
+            return super.getPageSql(ms, boundSql, parameterObject, rowBounds, pageKey);
+        }
+        String sql = boundSql.getSql();
+        String orderBy = page.getOrderBy();
+        if (StringUtils.isNotEmpty(orderBy)) {
+            pageKey.update(orderBy);
+            sql = OrderByParser.converToOrderBySql(sql, orderBy);
+        }
+        DeferredJoinSql deferredJoinSql = parse(ms, sql);
+        if (deferredJoinSql == null) {
+            return getPageSql(sql, page, rowBounds, pageKey);
+        }
+        // 分页参数在子查询末尾，与原sql中参数的顺序一致
+        return deferredJoinSql.wrap(getPageSql(deferredJoinSql.getInnerSql(), page, rowBounds, pageKey));
+    }
+
+    /**
+     * 根据statement对应的实体获取表名和主键后改写sql
+     *
+     * @param ms MappedStatement
+     * @param sql 原sql
+     * @return 改写结果，非通用Mapper或无主键时为null
+     */
+    private DeferredJoinSql parse(MappedStatement ms, String sql) {
+        Class<?> entityClass = MappedStatementUtil.getEntityClass(ms);
+        if (entityClass == null) {
+            return null;
+        }
+        EntityTable entityTable;
+        try {
+            entityTable = EntityHelper.getEntityTable(entityClass);
+        } catch (MapperException e) {
+            return null;
+        }
+        List<String> pkColumns = new ArrayList<>();
+        for (EntityColumn column : entityTable.getEntityClassPKColumns()) {
+            pkColumns.add(column.getColumn());
+        }
+        return DeferredJoinSqlParser.parse(sql, entityTable.getName(), pkColumns);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        super.setProperties(properties);
+        String threshold = properties.getProperty(DEFERRED_JOIN_OFFSET_THRESHOLD);
+        if (StringUtils.isNotBlank(threshold)) {
+            this.deferredJoinOffsetThreshold = Long.parseLong(threshold);
+        }
+        String pageNum = properties.getProperty(MAX_PAGE_NUM);
+        if (StringUtils.isNotBlank(pageNum)) {
+            PageInfoHelper.setMaxPageNum(Integer.parseInt(pageNum));
+        }
+        String pageSize = properties.getProperty(MAX_PAGE_SIZE);
+        if (StringUtils.isNotBlank(pageSize)) {
+            PageInfoHelper.setMaxPageSize(Integer.parseInt(pageSize));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.littlefisher.mybatis.pagehelper.deferred;
+
+import com.github.littlefisher.mybatis.pagehelper.count.CountAwarePageInterceptor;
+import java.util.Properties;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 在{@link CountAwarePageInterceptor}的基础上增加深分页延迟关联和分页上限，替代其配置即可
+ * <p/>
+ * 配置项（其余配置与{@link CountAwarePageInterceptor}相同）:
+ * <ul>
+ * <li>deferredJoinOffsetThreshold: offset不小于该值时改写为延迟关联，默认10000</li>
+ * <li>maxPageNum: {@link com.github.littlefisher.mybatis.pagehelper.PageParam}允许请求的最大页码，默认不限制</li>
+ * <li>maxPageSize: {@link com.github.littlefisher.mybatis.pagehelper.PageParam}允许请求的最大每页数量，默认不限制</li>
+ * </ul>
+ * 延迟关联的子查询中带分页语句，要求数据库支持在派生表中分页，如MySQL、PostgreSQL
+ *
+ * @author jinyanan
+ * @since 2026/10/18 14:05
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+            BoundSql.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})})
+public class DeferredJoinPageInterceptor extends CountAwarePageInterceptor {
+
+    private static final String DIALECT = "dialect";
+
+    @Override
+    public void setProperties(Properties properties) {
+        Properties props = new Properties();
+        props.putAll(properties);
+        if (StringUtils.isBlank(props.getProperty(DIALECT))) {
+            props.setProperty(DIALECT, DeferredJoinPageHelper.class.getName());
+        }
+        super.setProperties(props);
+    }
+}
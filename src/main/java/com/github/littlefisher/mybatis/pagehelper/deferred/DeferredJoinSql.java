@@ -0,0 +1,34 @@
+package com.github.littlefisher.mybatis.pagehelper.deferred;
+
+import lombok.Value;
+
+/**
+ * 延迟关联改写后的sql
+ * <p/>
+ * {@link #getInnerSql()}只查询主键，由分页方言追加分页语句后，通过{@link #wrap(String)}拼接回表查询
+ *
+ * @author jinyanan
+ * @since 2026/10/18 13:40
+ */
+@Value
+public class DeferredJoinSql {
+
+    /** 只查询主键的子查询，不含分页语句 */
+    String innerSql;
+
+    /** 回表查询中子查询之前的部分 */
+    String outerPrefix;
+
+    /** 回表查询中子查询之后的部分 */
+    String outerSuffix;
+
+    /**
+     * 将分页后的主键子查询拼接为完整的回表查询
+     *
+     * @param innerPageSql 追加了分页语句的主键子查询
+     * @return 回表查询sql
+     */
+    public String wrap(String innerPageSql) {
+        return outerPrefix + innerPageSql + outerSuffix;
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.littlefisher.mybatis.pagehelper.deferred;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 将单表分页查询改写为延迟关联形式
+ * <p/>
+ * <pre>
+ * SELECT a, b, c FROM t WHERE ... ORDER BY ...
+ * </pre>
+ * 改写为
+ * <pre>
+ * SELECT a, b, c FROM t INNER JOIN (SELECT id AS dj_pk_0 FROM t WHERE ... ORDER BY ... LIMIT ?, ?) dj_page
+ * ON t.id = dj_page.dj_pk_0 ORDER BY ...
+ * </pre>
+ * 子查询只需要在覆盖索引上跳过offset行，回表的只有pageSize行。
+ * 包含join、group by、distinct、having、子查询参数等无法安全改写的sql返回null，按原sql分页
+ *
+ * @author jinyanan
+ * @since 2026/10/18 13:45
+ */
+public final class DeferredJoinSqlParser {
+
+    private static final String DERIVED_TABLE_ALIAS = "dj_page";
+
+    private static final String PK_ALIAS_PREFIX = "dj_pk_";
+
+    private static final String PARAMETER = "?";
+
+    /** 解析结果缓存，key为表名:sql，同一个statement的sql形状基本固定 */
+    private static final Cache<String, Optional<DeferredJoinSql>> CACHE = CacheBuilder.newBuilder()
+        .maximumSize(1000)
+        .build();
+
+    private DeferredJoinSqlParser() {}
+
+    /**
+     * 改写sql
+     *
+     * @param sql 原sql，不含分页语句
+     * @param tableName 实体对应的表名，from的表与之不一致时不改写
+     * @param pkColumns 主键列
+     * @return 改写结果，无法改写时为null
+     */
+    public static DeferredJoinSql parse(String sql, String tableName, List<String> pkColumns) {
+        if (CollectionUtils.isEmpty(pkColumns)) {
+            return null;
+        }
+        try {
+            return CACHE.get(tableName + ':' + sql, () -> Optional.ofNullable(doParse(sql, tableName, pkColumns)))
+                .orElse(null);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static DeferredJoinSql doParse(String sql, String tableName, List<String> pkColumns) {
+        Statement statement;
+        try {
+            statement = CCJSqlParserUtil.parse(sql);
+        } catch (JSQLParserException e) {
+            return null;
+        }
+        if (!(statement instanceof Select)) {
+            return null;
+        }
+        Select select = (Select) statement;
+        if (CollectionUtils.isNotEmpty(select.getWithItemsList()) || !(select.getSelectBody() instanceof PlainSelect)) {
+            return null;
+        }
+        PlainSelect plainSelect = (PlainSelect) select.getSelectBody();
+        if (!isSimpleSingleTableSelect(plainSelect) || !sameTable((Table) plainSelect.getFromItem(), tableName)) {
+            return null;
+        }
+        Table table = (Table) plainSelect.getFromItem();
+        String selectItems = PlainSelect.getStringList(plainSelect.getSelectItems());
+        String orderBy = plainSelect.getOrderByElements() == null ? ""
+            : PlainSelect.orderByToString(plainSelect.getOrderByElements());
+        // 子查询之外的参数会打乱分页参数的顺序
+        if (selectItems.contains(PARAMETER) || orderBy.contains(PARAMETER)) {
+            return null;
+        }
+        String qualifier = table.getAlias() != null ? table.getAlias()
+            .getName() : table.getFullyQualifiedName();
+
+        StringBuilder inner = new StringBuilder("SELECT ");
+        StringBuilder on = new StringBuilder();
+        for (int i = 0; i < pkColumns.size(); i++) {
+            String pkAlias = PK_ALIAS_PREFIX + i;
+            if (i > 0) {
+                inner.append(", ");
+                on.append(" AND ");
+            }
+            inner.append(pkColumns.get(i))
+                .append(" AS ")
+                .append(pkAlias);
+            on.append(qualifier)
+                .append('.')
+                .append(pkColumns.get(i))
+                .append(" = ")
+                .append(DERIVED_TABLE_ALIAS)
+                .append('.')
+                .append(pkAlias);
+        }
+        inner.append(" FROM ")
+            .append(table);
+        if (plainSelect.getWhere() != null) {
+            inner.append(" WHERE ")
+                .append(plainSelect.getWhere());
+        }
+        inner.append(orderBy);
+
+        String outerPrefix = "SELECT " + selectItems + " FROM " + table + " INNER JOIN (";
+        String outerSuffix = ") " + DERIVED_TABLE_ALIAS + " ON " + on + orderBy;
+        return new DeferredJoinSql(inner.toString(), outerPrefix, outerSuffix);
+    }
+
+    private static boolean isSimpleSingleTableSelect(PlainSelect plainSelect) {
+        return plainSelect.getFromItem() instanceof Table && CollectionUtils.isEmpty(plainSelect.getJoins())
+            && plainSelect.getDistinct() == null && plainSelect.getGroupBy() == null && plainSelect.getHaving() == null
+            && plainSelect.getLimit() == null && plainSelect.getOffset() == null && plainSelect.getFetch() == null
+            && plainSelect.getTop() == null && CollectionUtils.isEmpty(plainSelect.getIntoTables())
+            && plainSelect.getOracleHierarchical() == null && !plainSelect.isForUpdate();
+    }
+
+    private static boolean sameTable(Table table, String tableName) {
+        return StringUtils.equalsIgnoreCase(unquote(table.getName()), unquote(tableName));
+    }
+
+    private static String unquote(String name) {
+        if (name == null) {
+            return null;
+        }
+        int index = name.lastIndexOf('.');
+        return StringUtils.strip(index >= 0 ? name.substring(index + 1) : name, "`\"[]");
+    }
+}
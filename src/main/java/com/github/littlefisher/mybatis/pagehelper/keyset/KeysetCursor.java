@@ -0,0 +1,207 @@
+package com.github.littlefisher.mybatis.pagehelper.keyset;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * keyset分页游标，记录翻页方向以及边界行的排序字段值
+ * <p/>
+ * 对外以不透明的字符串形式传递（Base64编码），只支持常见的标量类型，不使用java序列化，
+ * 因此客户端伪造的游标最多只能影响查询参数，不会带来反序列化风险
+ *
+ * @author jinyanan
+ * @since 2026/10/18 10:20
+ */
+public final class KeysetCursor {
+
+    /** 编码格式版本 */
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_SHORT = 4;
+    private static final byte TYPE_BYTE = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_FLOAT = 8;
+    private static final byte TYPE_BIG_DECIMAL = 9;
+    private static final byte TYPE_BIG_INTEGER = 10;
+    private static final byte TYPE_DATE = 11;
+    private static final byte TYPE_TIMESTAMP = 12;
+    private static final byte TYPE_LOCAL_DATE = 13;
+    private static final byte TYPE_LOCAL_DATE_TIME = 14;
+
+    /** true: 查询边界之后的数据（下一页）；false: 查询边界之前的数据（上一页） */
+    private final boolean forward;
+
+    /** 边界行的排序字段值，顺序与{@link KeysetPageParam#getSortProperties()}一致 */
+    private final List<Object> values;
+
+    public KeysetCursor(boolean forward, List<Object> values) {
+        this.forward = forward;
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    public List<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * 编码为不透明的游标字符串
+     *
+     * @return 游标
+     */
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeBoolean(forward);
+            out.writeShort(values.size());
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("游标编码失败", e);
+        }
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 解析游标字符串
+     *
+     * @param cursor 游标
+     * @return 游标对象
+     * @throws IllegalArgumentException 游标格式不正确
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            throw new IllegalArgumentException("游标不能为空");
+        }
+        try (DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("不支持的游标版本: " + cursor);
+            }
+            boolean forward = in.readBoolean();
+            int size = in.readShort();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readValue(in));
+            }
+            return new KeysetCursor(forward, values);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("非法的游标: " + cursor, e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            out.writeUTF(((BigDecimal) value).toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            out.writeUTF(value.toString());
+        } else if (value instanceof Timestamp) {
+            // Timestamp需要在Date之前判断，保留纳秒精度
+            out.writeByte(TYPE_TIMESTAMP);
+            out.writeLong(((Timestamp) value).getTime());
+            out.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            out.writeByte(TYPE_DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(TYPE_LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(TYPE_LOCAL_DATE_TIME);
+            out.writeUTF(value.toString());
+        } else if (value == null) {
+            throw new IllegalArgumentException("keyset分页的排序字段值不能为null");
+        } else {
+            throw new IllegalArgumentException("keyset分页不支持的排序字段类型: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_STRING:
+                return in.readUTF();
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_BIG_DECIMAL:
+                return new BigDecimal(in.readUTF());
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(in.readUTF());
+            case TYPE_DATE:
+                return new Date(in.readLong());
+            case TYPE_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case TYPE_LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TYPE_LOCAL_DATE_TIME:
+                return LocalDateTime.parse(in.readUTF());
+            default:
+                throw new IllegalArgumentException("未知的游标字段类型: " + type);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.github.littlefisher.mybatis.pagehelper.keyset;
+
+import com.github.littlefisher.mybatis.pagehelper.PageInfoHelper;
+import com.github.pagehelper.PageHelper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import tk.mybatis.mapper.entity.EntityColumn;
+import tk.mybatis.mapper.entity.Example;
+
+/**
+ * keyset分页工具
+ * <p/>
+ * 根据游标中的边界值，在Example原有条件的基础上追加
+ * {@code (k1 > v1) or (k1 = v1 and k2 > v2) or ...}形式的条件，并按排序字段排序后多取一行，
+ * 用于判断是否还有下一页。无论翻到第几页，数据库都只需要沿索引读取pageSize + 1行。
+ * <pre>
+ * KeysetPageInfo&lt;User&gt; pageInfo = KeysetPageHelper.doSelectPage(example, param, userMapper::selectByExample);
+ * </pre>
+ *
+ * @author jinyanan
+ * @since 2026/10/18 10:48
+ */
+public final class KeysetPageHelper {
+
+    private static final String OR = "or";
+
+    private KeysetPageHelper() {}
+
+    /**
+     * 执行keyset分页查询
+     * <p/>
+     * 查询期间会临时修改example的条件和排序，查询结束后还原
+     *
+     * @param example 查询条件，不能包含order by，排序由{@link KeysetPageParam#getSortProperties()}决定
+     * @param param 分页参数
+     * @param select 查询逻辑，一般为{@code mapper::selectByExample}
+     * @param <T> 实体类型
+     * @return 分页结果
+     */
+    public static <T> KeysetPageInfo<T> doSelectPage(Example example, KeysetPageParam param,
+        Function<Example, List<T>> select) {
+        List<String> sortProperties = param.getSortProperties();
+        if (CollectionUtils.isEmpty(sortProperties)) {
+            throw new IllegalArgumentException("keyset分页必须指定排序字段");
+        }
+        if (param.getPageSize() <= 0) {
+            throw new IllegalArgumentException("keyset分页的pageSize必须大于0");
+        }
+        PageInfoHelper.checkPageParam(param);
+        KeysetCursor cursor = StringUtils.isBlank(param.getCursor()) ? null : KeysetCursor.decode(param.getCursor());
+        if (cursor != null && cursor.getValues().size() != sortProperties.size()) {
+            throw new IllegalArgumentException("游标与排序字段不匹配: " + param.getCursor());
+        }
+        boolean forward = cursor == null || cursor.isForward();
+        // 向前翻页时反转排序方向，查询结果再反转回来
+        boolean descending = param.isDescending() == forward;
+
+        List<Example.Criteria> originalCriteria = new ArrayList<>(example.getOredCriteria());
+        String originalOrderByClause = example.getOrderByClause();
+        List<T> rows;
+        try {
+            if (cursor != null) {
+                applySeekCriteria(example, originalCriteria, sortProperties, cursor.getValues(), descending);
+            }
+            example.setOrderByClause(getOrderByClause(example, sortProperties, descending));
+            rows = new ArrayList<>(PageHelper.startPage(1, param.getPageSize() + 1, false)
+                .doSelectPage(() -> select.apply(example)));
+        } finally {
+            example.getOredCriteria()
+                .clear();
+            example.getOredCriteria()
+                .addAll(originalCriteria);
+            example.setOrderByClause(originalOrderByClause);
+        }
+
+        boolean hasMore = rows.size() > param.getPageSize();
+        if (hasMore) {
+            rows.remove(rows.size() - 1);
+        }
+        if (!forward) {
+            Collections.reverse(rows);
+        }
+        String previousCursor = null;
+        String nextCursor = null;
+        if (rows.isEmpty()) {
+            // 越过边界后没有数据，允许沿原游标往回翻
+            if (cursor != null) {
+                KeysetCursor back = new KeysetCursor(!forward, cursor.getValues());
+                previousCursor = forward ? back.encode() : null;
+                nextCursor = forward ? null : back.encode();
+            }
+        } else {
+            boolean hasPrevious = forward ? cursor != null : hasMore;
+            boolean hasNext = !forward || hasMore;
+            if (hasPrevious) {
+                previousCursor = new KeysetCursor(false, getSortValues(rows.get(0), sortProperties)).encode();
+            }
+            if (hasNext) {
+                nextCursor = new KeysetCursor(true, getSortValues(rows.get(rows.size() - 1), sortProperties))
+                    .encode();
+            }
+        }
+        return new KeysetPageInfo<>(rows, param.getPageSize(), previousCursor, nextCursor);
+    }
+
+    /**
+     * 将原有条件展开为若干个and组，每个and组与seek条件的每一项组合，生成新的or条件
+     *
+     * @param example example
+     * @param originalCriteria 原有条件
+     * @param sortProperties 排序字段
+     * @param values 边界值
+     * @param descending 是否倒序
+     */
+    private static void applySeekCriteria(Example example, List<Example.Criteria> originalCriteria,
+        List<String> sortProperties, List<Object> values, boolean descending) {
+        List<List<Example.Criterion>> groups = new ArrayList<>();
+        for (Example.Criteria criteria : originalCriteria) {
+            if (!criteria.isValid()) {
+                continue;
+            }
+            boolean newGroup = groups.isEmpty() || OR.equalsIgnoreCase(criteria.getAndOr());
+            List<Example.Criterion> criterionList = criteria.getCriteria();
+            for (int i = 0; i < criterionList.size(); i++) {
+                // 条件内部的or无法再追加and条件，否则会因为优先级改变原有语义
+                if ((i > 0 || !newGroup) && OR.equalsIgnoreCase(criterionList.get(i).getAndOr())) {
+                    throw new IllegalArgumentException("keyset分页不支持Criteria内部的or条件，请使用example.or()拆分");
+                }
+            }
+            if (newGroup) {
+                groups.add(new ArrayList<>(criterionList));
+            } else {
+                groups.get(groups.size() - 1)
+                    .addAll(criterionList);
+            }
+        }
+        if (groups.isEmpty()) {
+            groups.add(Collections.emptyList());
+        }
+
+        example.getOredCriteria()
+            .clear();
+        for (List<Example.Criterion> group : groups) {
+            for (int i = 0; i < sortProperties.size(); i++) {
+                Example.Criteria criteria = example.or();
+                criteria.getCriteria()
+                    .addAll(group);
+                for (int j = 0; j < i; j++) {
+                    criteria.andEqualTo(sortProperties.get(j), values.get(j));
+                }
+                if (descending) {
+                    criteria.andLessThan(sortProperties.get(i), values.get(i));
+                } else {
+                    criteria.andGreaterThan(sortProperties.get(i), values.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取排序语句
+     *
+     * @param example example
+     * @param sortProperties 排序字段
+     * @param descending 是否倒序
+     * @return order by语句
+     */
+    private static String getOrderByClause(Example example, List<String> sortProperties, boolean descending) {
+        StringBuilder orderBy = new StringBuilder();
+        for (String property : sortProperties) {
+            EntityColumn column = example.getPropertyMap()
+                .get(property);
+            if (column == null) {
+                throw new IllegalArgumentException("排序字段" + property + "不是" + example.getEntityClass()
+                    .getName() + "的属性");
+            }
+            if (orderBy.length() > 0) {
+                orderBy.append(", ");
+            }
+            orderBy.append(column.getColumn())
+                .append(descending ? " DESC" : " ASC");
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * 获取行上的排序字段值
+     *
+     * @param row 行
+     * @param sortProperties 排序字段
+     * @return 排序字段值
+     */
+    private static List<Object> getSortValues(Object row, List<String> sortProperties) {
+        MetaObject metaObject = SystemMetaObject.forObject(row);
+        List<Object> values = new ArrayList<>(sortProperties.size());
+        for (String property : sortProperties) {
+            values.add(metaObject.getValue(property));
+        }
+        return values;
+    }
+}
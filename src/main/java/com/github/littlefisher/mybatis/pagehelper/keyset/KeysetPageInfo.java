@@ -0,0 +1,85 @@
+package com.github.littlefisher.mybatis.pagehelper.keyset;
+
+import com.github.littlefisher.mybatis.pagehelper.PageInfo;
+import java.util.List;
+
+/**
+ * keyset分页结果
+ * <p/>
+ * keyset分页不查询总数，{@link #getTotal()}固定为-1，页码相关的导航信息也不计算，
+ * 通过{@link #getNextCursor()}/{@link #getPreviousCursor()}进行前后翻页
+ *
+ * @author jinyanan
+ * @since 2026/10/18 10:35
+ */
+public class KeysetPageInfo<T> extends PageInfo<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 下一页游标，没有下一页时为null */
+    private String nextCursor;
+
+    /** 上一页游标，没有上一页时为null */
+    private String previousCursor;
+
+    public KeysetPageInfo() {}
+
+    /**
+     * 包装keyset分页结果
+     *
+     * @param list 当前页数据，已按排序字段排好序
+     * @param pageSize 每页的数量
+     * @param previousCursor 上一页游标
+     * @param nextCursor 下一页游标
+     */
+    public KeysetPageInfo(List<T> list, int pageSize, String previousCursor, String nextCursor) {
+        this.setList(list);
+        this.setPageSize(pageSize);
+        this.setSize(list.size());
+        this.setTotal(-1);
+        this.setTotalUnknown(true);
+        this.previousCursor = previousCursor;
+        this.nextCursor = nextCursor;
+        this.setHasPreviousPage(previousCursor != null);
+        this.setHasNextPage(nextCursor != null);
+        this.setIsFirstPage(previousCursor == null);
+        this.setIsLastPage(nextCursor == null);
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+
+    public void setPreviousCursor(String previousCursor) {
+        this.previousCursor = previousCursor;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer("KeysetPageInfo{");
+        sb.append("pageSize=")
+            .append(getPageSize());
+        sb.append(", size=")
+            .append(getSize());
+        sb.append(", list=")
+            .append(getList());
+        sb.append(", hasPreviousPage=")
+            .append(isHasPreviousPage());
+        sb.append(", hasNextPage=")
+            .append(isHasNextPage());
+        sb.append(", previousCursor=")
+            .append(previousCursor);
+        sb.append(", nextCursor=")
+            .append(nextCursor);
+        sb.append('}');
+        return sb.toString();
+    }
+}
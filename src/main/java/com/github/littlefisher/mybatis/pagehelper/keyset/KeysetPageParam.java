@@ -0,0 +1,45 @@
+package com.github.littlefisher.mybatis.pagehelper.keyset;
+
+import com.github.littlefisher.mybatis.pagehelper.PageParam;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 游标（keyset/seek）分页参数
+ * <p/>
+ * 与{@link PageParam}按offset翻页不同，keyset分页记录上一页最后一行的排序字段值，下一页直接从该值之后开始查询，
+ * 深度翻页时不会扫描并丢弃前面的行。{@link #getPageNum()}在该模式下不生效，仅使用{@link #getPageSize()}
+ *
+ * @author jinyanan
+ * @since 2026/10/18 10:12
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+public class KeysetPageParam extends PageParam {
+
+    /** serialVersionUID */
+    private static final long serialVersionUID = -2630409851373240176L;
+
+    /**
+     * 排序字段（实体属性名），字段值不能为null，且组合后必须唯一，一般最后一个字段使用主键
+     */
+    private List<String> sortProperties;
+
+    /**
+     * 是否倒序，所有排序字段使用相同的排序方向
+     */
+    @Builder.Default
+    private boolean descending = false;
+
+    /**
+     * 上一次查询返回的{@link KeysetPageInfo#getNextCursor()}或{@link KeysetPageInfo#getPreviousCursor()}，为空时查询第一页
+     */
+    private String cursor;
+
+}
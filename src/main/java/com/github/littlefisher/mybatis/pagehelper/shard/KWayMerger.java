@@ -0,0 +1,83 @@
+package com.github.littlefisher.mybatis.pagehelper.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 多路归并，将多个已排序的list合并为一个有序list，只保留跳过skip个元素之后的limit个元素
+ * <p/>
+ * 使用大小为k的堆，时间复杂度O((skip + limit) * log k)，不需要对全部数据排序
+ *
+ * @author jinyanan
+ * @since 2026/10/18 15:50
+ */
+public final class KWayMerger {
+
+    private KWayMerger() {}
+
+    /**
+     * 归并
+     *
+     * @param sortedLists 各自已按comparator排序的list
+     * @param comparator 排序规则
+     * @param skip 跳过的元素数量
+     * @param limit 返回的最大元素数量
+     * @param <T> 泛型
+     * @return 合并后的有序结果，相等的元素按所在list的顺序排列
+     */
+    public static <T> List<T> merge(List<? extends List<? extends T>> sortedLists, Comparator<? super T> comparator,
+        long skip, int limit) {
+        PriorityQueue<Cursor<T>> heap = new PriorityQueue<>(Math.max(sortedLists.size(), 1),
+            (a, b) -> {
+                int result = comparator.compare(a.current(), b.current());
+                return result != 0 ? result : Integer.compare(a.listIndex, b.listIndex);
+            });
+        for (int i = 0; i < sortedLists.size(); i++) {
+            List<? extends T> list = sortedLists.get(i);
+            if (list != null && !list.isEmpty()) {
+                heap.add(new Cursor<>(list, i));
+            }
+        }
+        List<T> result = new ArrayList<>(Math.max(limit, 0));
+        long skipped = 0;
+        while (!heap.isEmpty() && result.size() < limit) {
+            Cursor<T> cursor = heap.poll();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                result.add(cursor.current());
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 某个list上的读取位置
+     */
+    private static class Cursor<T> {
+
+        private final List<? extends T> list;
+
+        private final int listIndex;
+
+        private int position;
+
+        private Cursor(List<? extends T> list, int listIndex) {
+            this.list = list;
+            this.listIndex = listIndex;
+        }
+
+        private T current() {
+            return list.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < list.size();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.littlefisher.mybatis.pagehelper.shard;
+
+import com.github.littlefisher.mybatis.pagehelper.PageExecutors;
+import com.github.littlefisher.mybatis.pagehelper.PageInfo;
+import com.github.littlefisher.mybatis.pagehelper.PageInfoHelper;
+import com.github.littlefisher.mybatis.pagehelper.PageParam;
+import com.github.pagehelper.ISelect;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageHelper;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 跨分片分页查询
+ * <p/>
+ * 全局第N页的数据一定在各分片排序后的前N * pageSize行中，因此每个分片并行查询count和前N * pageSize行，
+ * 再按comparator多路归并取出全局的第N页，total为各分片count之和
+ * <pre>
+ * List&lt;ISelect&gt; shards = tenantMappers.stream()
+ *     .map(mapper -&gt; (ISelect) () -&gt; mapper.selectByExample(example))
+ *     .collect(Collectors.toList());
+ * PageInfo&lt;Order&gt; pageInfo = ShardedPageHelper.doSelectPageInfo(pageParam, shards,
+ *     Comparator.comparing(Order::getCreateTime).reversed().thenComparing(Order::getId));
+ * </pre>
+ * 各分片的查询必须使用与comparator一致的order by，否则归并结果不正确
+ *
+ * @author jinyanan
+ * @since 2026/10/18 16:00
+ */
+public final class ShardedPageHelper {
+
+    private ShardedPageHelper() {}
+
+    /**
+     * 使用默认线程池执行跨分片分页查询
+     *
+     * @param pageParam 分页参数
+     * @param shardSelects 每个分片上的查询
+     * @param comparator 与查询order by一致的排序规则
+     * @param <T> 泛型
+     * @return 全局分页结果
+     */
+    public static <T> PageInfo<T> doSelectPageInfo(PageParam pageParam, List<ISelect> shardSelects,
+        Comparator<? super T> comparator) {
+        return doSelectPageInfo(pageParam, shardSelects, comparator, PageExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * 执行跨分片分页查询
+     *
+     * @param pageParam 分页参数
+     * @param shardSelects 每个分片上的查询，分片之间并行执行，必须是线程安全的
+     * @param comparator 与查询order by一致的排序规则
+     * @param executor 执行分片查询的线程池
+     * @param <T> 泛型
+     * @return 全局分页结果
+     */
+    public static <T> PageInfo<T> doSelectPageInfo(PageParam pageParam, List<ISelect> shardSelects,
+        Comparator<? super T> comparator, Executor executor) {
+        PageInfoHelper.checkPageParam(pageParam);
+        int pageNum = Math.max(pageParam.getPageNum(), 1);
+        int pageSize = pageParam.getPageSize();
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize必须大于0");
+        }
+        long offset = (long) (pageNum - 1) * pageSize;
+        if (offset + pageSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("页码过大: " + pageNum);
+        }
+        int limit = (int) offset + pageSize;
+
+        List<CompletableFuture<Page<T>>> futures = new ArrayList<>(shardSelects.size());
+        for (ISelect select : shardSelects) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                Page<T> page = PageHelper.offsetPage(0, limit, true)
+                    .doSelectPage(select);
+                return page;
+            }, executor));
+        }
+
+        List<Page<T>> shardPages = new ArrayList<>(futures.size());
+        long total = 0;
+        try {
+            for (CompletableFuture<Page<T>> future : futures) {
+                Page<T> shardPage = future.join();
+                shardPages.add(shardPage);
+                total += shardPage.getTotal();
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        Page<T> page = new Page<>(pageNum, pageSize, true);
+        page.setTotal(total);
+        page.addAll(KWayMerger.merge(shardPages, comparator, offset, pageSize));
+        return new PageInfo<>(page);
+    }
+}